@@ -0,0 +1,4 @@
+ALTER TABLE events ADD COLUMN IF NOT EXISTS participant_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE events e
+SET participant_count = (SELECT count(*) FROM event_participants p WHERE p.event_id = e.id);
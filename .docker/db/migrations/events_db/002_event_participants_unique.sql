@@ -0,0 +1,11 @@
+DELETE FROM event_participants a
+USING event_participants b
+WHERE a.ctid < b.ctid
+  AND a.event_id = b.event_id
+  AND a.participant_user_id = b.participant_user_id;
+
+ALTER TABLE event_participants
+    ADD CONSTRAINT uk_event_participants_event_user UNIQUE (event_id, participant_user_id);
+
+UPDATE events e
+SET participant_count = (SELECT count(*) FROM event_participants p WHERE p.event_id = e.id);
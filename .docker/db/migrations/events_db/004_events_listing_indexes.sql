@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_events_date_id ON events (date, id);
+CREATE INDEX IF NOT EXISTS idx_events_owner_user_id_date_id ON events (owner_user_id, date, id);
@@ -0,0 +1,6 @@
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS normalized_key VARCHAR(410);
+
+-- Existing rows are keyed on startup by LocationKeyBackfill in events-service, with the same
+-- TextNormalizer folding the service applies to new venues, which also merges rows that fold to
+-- the same key. NULLs never conflict, so the constraint can be added before that runs.
+ALTER TABLE locations ADD CONSTRAINT uk_locations_normalized_key UNIQUE (normalized_key);
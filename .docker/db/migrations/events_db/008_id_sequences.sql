@@ -0,0 +1,9 @@
+-- Ids move from identity columns to sequences allocated in blocks of 50 (pooled-lo):
+-- every nextval() is the lowest id of a block owned by whoever fetched it.
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50;
+SELECT setval('events_seq', (SELECT coalesce(max(id), 0) + 1 FROM events), false);
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS locations_seq INCREMENT BY 50;
+SELECT setval('locations_seq', (SELECT coalesce(max(id), 0) + 1 FROM locations), false);
+ALTER TABLE locations ALTER COLUMN id DROP IDENTITY IF EXISTS;
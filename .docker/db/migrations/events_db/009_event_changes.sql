@@ -0,0 +1,12 @@
+-- Outbox of event changes read by internal consumers through /api/v1/internal/events/changes.
+CREATE SEQUENCE IF NOT EXISTS event_changes_seq INCREMENT BY 1;
+
+CREATE TABLE IF NOT EXISTS event_changes (
+    seq                 BIGINT PRIMARY KEY,
+    type                VARCHAR(30) NOT NULL,
+    event_id            BIGINT NOT NULL,
+    participant_user_id UUID,
+    recorded_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_changes_recorded_at ON event_changes (recorded_at);
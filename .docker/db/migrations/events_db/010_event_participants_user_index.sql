@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_event_participants_user_event
+    ON event_participants (participant_user_id, event_id);
@@ -0,0 +1,7 @@
+-- Participant read model pushed by users-service through PUT /api/v1/internal/participant-profiles.
+CREATE TABLE IF NOT EXISTS participant_profiles (
+    external_id  UUID PRIMARY KEY,
+    first_name   VARCHAR(50),
+    last_name    VARCHAR(50),
+    user_version BIGINT NOT NULL
+);
@@ -0,0 +1,6 @@
+-- Single row locked by every event_changes writer until it commits, so seqs follow commit order.
+CREATE TABLE IF NOT EXISTS event_changes_lock (
+    id SMALLINT PRIMARY KEY
+);
+
+INSERT INTO event_changes_lock (id) VALUES (1) ON CONFLICT DO NOTHING;
@@ -0,0 +1,18 @@
+-- Writers no longer lock event_changes_lock. Changes are written with an id and no seq, and a
+-- single stamper numbers committed changes after the fact, keeping the last seq in the lock row.
+ALTER TABLE event_changes_lock ADD COLUMN IF NOT EXISTS last_seq BIGINT NOT NULL DEFAULT 0;
+UPDATE event_changes_lock SET last_seq = (SELECT coalesce(max(seq), 0) FROM event_changes);
+
+CREATE SEQUENCE IF NOT EXISTS event_changes_id_seq INCREMENT BY 1;
+ALTER TABLE event_changes ADD COLUMN IF NOT EXISTS id BIGINT;
+UPDATE event_changes SET id = seq WHERE id IS NULL;
+SELECT setval('event_changes_id_seq', (SELECT coalesce(max(id), 0) + 1 FROM event_changes), false);
+
+ALTER TABLE event_changes DROP CONSTRAINT IF EXISTS event_changes_pkey;
+ALTER TABLE event_changes ALTER COLUMN id SET NOT NULL;
+ALTER TABLE event_changes ADD PRIMARY KEY (id);
+ALTER TABLE event_changes ALTER COLUMN seq DROP NOT NULL;
+ALTER TABLE event_changes ADD CONSTRAINT uk_event_changes_seq UNIQUE (seq);
+CREATE INDEX IF NOT EXISTS idx_event_changes_unstamped ON event_changes (id) WHERE seq IS NULL;
+
+DROP SEQUENCE IF EXISTS event_changes_seq;
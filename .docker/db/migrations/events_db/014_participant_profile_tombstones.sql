@@ -0,0 +1,3 @@
+-- Deleted users keep their participant_profiles row as a tombstone, so a profile push that
+-- arrives after the deletion cannot bring the user back.
+ALTER TABLE participant_profiles ADD COLUMN IF NOT EXISTS deleted BOOLEAN NOT NULL DEFAULT FALSE;
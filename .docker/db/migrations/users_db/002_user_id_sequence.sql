@@ -0,0 +1,4 @@
+-- Ids move from an identity column to a sequence allocated in blocks of 50 (pooled-lo).
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT coalesce(max(id), 0) + 1 FROM users), false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,16 @@
+-- Outbox of user changes relayed to the participant_profiles read model in events-service.
+CREATE SEQUENCE IF NOT EXISTS user_profile_changes_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS user_profile_changes (
+    id          BIGINT PRIMARY KEY,
+    external_id UUID NOT NULL,
+    recorded_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Backfill: one pending change per existing user, so the first relay run seeds events-service.
+INSERT INTO user_profile_changes (id, external_id, recorded_at)
+SELECT row_number() OVER (ORDER BY id), external_id, now()
+FROM users;
+
+SELECT setval('user_profile_changes_seq',
+    (SELECT coalesce(max(id), 0) + 1 FROM user_profile_changes), false);
@@ -0,0 +1,2 @@
+-- Supports keyset paging of GET /api/v1/users?cursor= on (created_at, id).
+CREATE INDEX IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
@@ -1,12 +1,16 @@
 package ro.irisinfinity.auth.client;
 
+import java.util.Set;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
 import ro.irisinfinity.platform.common.dto.auth.EmailLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.EmailsLookupRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
 
 @FeignClient(name = "users-service")
 public interface UsersClient {
@@ -17,4 +21,12 @@ public interface UsersClient {
     @PostMapping("/api/v1/internal/users/credentials")
     CredentialsResponseDto findCredentials(
         @RequestBody final EmailLookupRequestDto emailLookupRequestDto);
-}
\ No newline at end of file
+
+    @PostMapping("/api/v1/internal/users/emails")
+    Set<String> findExistingEmails(
+        @RequestBody final EmailsLookupRequestDto emailsLookupRequestDto);
+
+    @PostMapping("/api/v1/internal/users/bulk")
+    UsersBulkCreateResultDto createUsers(
+        @RequestBody final UsersBulkCreateRequestDto usersBulkCreateRequestDto);
+}
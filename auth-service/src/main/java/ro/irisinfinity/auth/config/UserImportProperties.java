@@ -0,0 +1,27 @@
+package ro.irisinfinity.auth.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "auth.user-import")
+public class UserImportProperties {
+
+    // Bounded by the users-service bulk create request.
+    @Min(1)
+    @Max(1000)
+    private int batchSize = 500;
+
+    // BCrypt is CPU bound, so more threads than cores only adds contention.
+    @Min(1)
+    private int hashingThreads = Runtime.getRuntime().availableProcessors();
+
+    private int maxReportedErrors = 1000;
+
+}
@@ -1,8 +1,11 @@
 package ro.irisinfinity.auth.controller;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,9 +14,11 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import ro.irisinfinity.auth.service.AuthCoreService;
+import ro.irisinfinity.auth.service.UserImportService;
 import ro.irisinfinity.platform.common.dto.auth.LoginRequest;
 import ro.irisinfinity.platform.common.dto.auth.RefreshRequest;
 import ro.irisinfinity.platform.common.dto.auth.TokenResponse;
+import ro.irisinfinity.platform.common.dto.users.UserImportReportDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
 
@@ -23,12 +28,19 @@ import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
 public class AuthController {
 
     private final AuthCoreService authCoreService;
+    private final UserImportService userImportService;
 
     @PostMapping("/register")
     public UserResponseDto register(@RequestBody @Valid final UserRequestDto userRequestDto) {
         return authCoreService.register(userRequestDto);
     }
 
+    @PostMapping(value = "/users/bulk", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public UserImportReportDto importUsers(final InputStream ndjson) throws IOException {
+        return userImportService.importUsers(ndjson);
+    }
+
     @PostMapping("/login")
     public TokenResponse login(@RequestBody LoginRequest request) {
         return authCoreService.login(request.email(), request.password());
@@ -0,0 +1,262 @@
+package ro.irisinfinity.auth.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import ro.irisinfinity.auth.client.UsersClient;
+import ro.irisinfinity.auth.config.UserImportProperties;
+import ro.irisinfinity.platform.common.dto.users.EmailsLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserImportErrorDto;
+import ro.irisinfinity.platform.common.dto.users.UserImportReportDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+
+/**
+ * Imports users from an NDJSON stream, one {@link UserRequestDto} per line. Lines are parsed,
+ * validated and deduplicated by email as they are read, then handled in chunks of
+ * {@code batch-size}: emails already registered are dropped with one lookup per chunk before any
+ * password is hashed, the remaining passwords are hashed in parallel on a fixed pool of
+ * {@code hashing-threads} platform threads, and the chunk is created in users-service with one
+ * call. Progress is logged after every chunk.
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private final UsersClient usersClient;
+    private final BCryptPasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserImportProperties properties;
+
+    private ThreadPoolExecutor hashingPool;
+
+    public UserImportService(
+        final UsersClient usersClient,
+        final BCryptPasswordEncoder passwordEncoder,
+        final ObjectMapper objectMapper,
+        final Validator validator,
+        final UserImportProperties properties
+    ) {
+        this.usersClient = usersClient;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void start() {
+        int threads = properties.getHashingThreads();
+        // Concurrent imports share the pool; once its queue is full the importing thread hashes
+        // on its own instead of queueing without bound.
+        hashingPool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.getBatchSize()),
+            Thread.ofPlatform().name("user-import-hash-", 0).daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (hashingPool != null) {
+            hashingPool.shutdownNow();
+        }
+    }
+
+    public UserImportReportDto importUsers(final InputStream ndjson) throws IOException {
+        ImportReport report = new ImportReport(properties.getMaxReportedErrors());
+        List<ImportRow> chunk = new ArrayList<>(properties.getBatchSize());
+        Set<String> seenEmails = new HashSet<>();
+        long started = System.nanoTime();
+
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                UserRequestDto userRequestDto = parse(lineNumber, line, report);
+                if (userRequestDto == null) {
+                    continue;
+                }
+                if (!seenEmails.add(userRequestDto.email())) {
+                    report.duplicate(lineNumber, userRequestDto.email(),
+                        "Email repeated in import: ");
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, userRequestDto));
+                if (chunk.size() >= properties.getBatchSize()) {
+                    flush(chunk, report);
+                    chunk.clear();
+                    log.info("User import progress: lines={}, imported={}, duplicates={}, "
+                        + "rejected={}", lineNumber, report.imported, report.duplicates,
+                        report.rejected);
+                }
+            }
+        }
+        flush(chunk, report);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Users imported: imported={}, duplicates={}, rejected={}, elapsedMs={}",
+            report.imported, report.duplicates, report.rejected, elapsedMillis);
+        return report.toDto();
+    }
+
+    private UserRequestDto parse(final long lineNumber, final String line,
+        final ImportReport report) {
+        UserRequestDto userRequestDto;
+        try {
+            userRequestDto = objectMapper.readValue(line, UserRequestDto.class);
+        } catch (JacksonException e) {
+            report.reject(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(userRequestDto);
+        if (!violations.isEmpty()) {
+            report.reject(lineNumber, userRequestDto.email(), violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return userRequestDto;
+    }
+
+    private void flush(final List<ImportRow> chunk, final ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(chunk, report);
+        } catch (FeignException e) {
+            log.warn("User import batch failed: lines {}-{}", chunk.getFirst().lineNumber(),
+                chunk.getLast().lineNumber(), e);
+            chunk.forEach(row -> report.reject(row.lineNumber(), row.user().email(),
+                "Batch write failed"));
+        }
+    }
+
+    private void write(final List<ImportRow> chunk, final ImportReport report) {
+        Set<String> emails = new LinkedHashSet<>(chunk.size());
+        chunk.forEach(row -> emails.add(row.user().email()));
+        Set<String> existingEmails = usersClient.findExistingEmails(
+            new EmailsLookupRequestDto(emails));
+
+        List<ImportRow> rows = chunk.stream()
+            .filter(row -> !existingEmails.contains(row.user().email()))
+            .toList();
+        Set<String> duplicateEmails = new HashSet<>(existingEmails);
+        if (!rows.isEmpty()) {
+            UsersBulkCreateResultDto result = usersClient.createUsers(
+                new UsersBulkCreateRequestDto(hashPasswords(rows)));
+            duplicateEmails.addAll(result.duplicateEmails());
+        }
+
+        // The report is only touched once both calls succeeded, so a failed batch is counted once.
+        for (ImportRow row : chunk) {
+            if (duplicateEmails.contains(row.user().email())) {
+                report.duplicate(row.lineNumber(), row.user().email(),
+                    "Email already registered: ");
+            } else {
+                report.imported++;
+            }
+        }
+    }
+
+    private List<UserRequestDto> hashPasswords(final List<ImportRow> rows) {
+        List<Future<UserRequestDto>> hashed = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            UserRequestDto user = row.user();
+            hashed.add(hashingPool.submit(
+                () -> user.withPassword(passwordEncoder.encode(user.password()))));
+        }
+
+        List<UserRequestDto> users = new ArrayList<>(rows.size());
+        try {
+            for (Future<UserRequestDto> future : hashed) {
+                users.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            hashed.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("User import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+        return users;
+    }
+
+    private record ImportRow(long lineNumber, UserRequestDto user) {
+
+    }
+
+    private static final class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<UserImportErrorDto> errors = new ArrayList<>();
+        private long imported;
+        private long duplicates;
+        private long rejected;
+        private boolean errorsTruncated;
+
+        private ImportReport(final int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void duplicate(final long lineNumber, final String email,
+            final String message) {
+            duplicates++;
+            addError(lineNumber, email, message + email);
+        }
+
+        private void reject(final long lineNumber, final String email, final String message) {
+            rejected++;
+            addError(lineNumber, email, message);
+        }
+
+        private void addError(final long lineNumber, final String email, final String message) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportErrorDto(lineNumber, email, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private UserImportReportDto toDto() {
+            return new UserImportReportDto(imported, duplicates, rejected, List.copyOf(errors),
+                errorsTruncated);
+        }
+    }
+}
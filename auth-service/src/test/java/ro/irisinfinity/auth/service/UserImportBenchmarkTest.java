@@ -0,0 +1,83 @@
+package ro.irisinfinity.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ro.irisinfinity.auth.client.UsersClient;
+import ro.irisinfinity.auth.config.UserImportProperties;
+import ro.irisinfinity.platform.common.dto.users.UserImportReportDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+
+/**
+ * Measures import throughput with production BCrypt cost, hashing on one thread versus one thread
+ * per core. users-service is stubbed, so the numbers isolate parsing, validation and hashing. Run
+ * with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class UserImportBenchmarkTest {
+
+    private static final int WARMUP_USERS = 50;
+    private static final int MEASURED_USERS = 500;
+
+    @Test
+    void importUsers() throws IOException {
+        int cores = Runtime.getRuntime().availableProcessors();
+        double sequential = measure(1);
+        double parallel = measure(cores);
+
+        log.info("user import benchmark: users={}, 1 thread {} users/s, {} threads {} users/s",
+            MEASURED_USERS, Math.round(sequential), cores, Math.round(parallel));
+    }
+
+    private double measure(final int hashingThreads) throws IOException {
+        UsersClient usersClient = mock(UsersClient.class);
+        when(usersClient.findExistingEmails(any())).thenReturn(Set.of());
+        when(usersClient.createUsers(any())).thenAnswer(invocation -> new UsersBulkCreateResultDto(
+            invocation.<UsersBulkCreateRequestDto>getArgument(0).users().size(), Set.of()));
+
+        UserImportProperties properties = new UserImportProperties();
+        properties.setHashingThreads(hashingThreads);
+        UserImportService userImportService = new UserImportService(usersClient,
+            new BCryptPasswordEncoder(), new ObjectMapper().findAndRegisterModules(),
+            Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        userImportService.start();
+        try {
+            userImportService.importUsers(ndjson("warmup", WARMUP_USERS));
+
+            long started = System.nanoTime();
+            UserImportReportDto report = userImportService.importUsers(
+                ndjson("import", MEASURED_USERS));
+            long elapsed = System.nanoTime() - started;
+
+            assertEquals(MEASURED_USERS, report.imported());
+            return MEASURED_USERS * 1_000_000_000d / elapsed;
+        } finally {
+            userImportService.stop();
+        }
+    }
+
+    private static ByteArrayInputStream ndjson(final String prefix, final int users) {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < users; i++) {
+            ndjson.append("""
+                {"email":"%s%d@example.com","password":"Secret123!","firstName":"Bench",\
+                "lastName":"User","birthDate":"1990-01-01","sex":"FEMALE"}
+                """.formatted(prefix, i));
+        }
+        return new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,118 @@
+package ro.irisinfinity.auth.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.FeignException;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import ro.irisinfinity.auth.client.UsersClient;
+import ro.irisinfinity.auth.config.UserImportProperties;
+import ro.irisinfinity.platform.common.dto.users.EmailsLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserImportErrorDto;
+import ro.irisinfinity.platform.common.dto.users.UserImportReportDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+
+class UserImportServiceUnitTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private UsersClient usersClient;
+    private UserImportService userImportService;
+
+    @BeforeEach
+    void setup() {
+        usersClient = mock(UsersClient.class);
+        UserImportProperties properties = new UserImportProperties();
+        properties.setBatchSize(2);
+        properties.setHashingThreads(2);
+
+        userImportService = new UserImportService(usersClient, passwordEncoder,
+            new ObjectMapper().findAndRegisterModules(),
+            Validation.buildDefaultValidatorFactory().getValidator(), properties);
+        userImportService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userImportService.stop();
+    }
+
+    @Test
+    void importUsers_shouldHashPasswordsAndReportPerRowErrors() throws IOException {
+        when(usersClient.findExistingEmails(any())).thenReturn(Set.of("taken@example.com"));
+        when(usersClient.createUsers(any())).thenAnswer(invocation -> new UsersBulkCreateResultDto(
+            invocation.<UsersBulkCreateRequestDto>getArgument(0).users().size(), Set.of()));
+
+        UserImportReportDto report = userImportService.importUsers(ndjson(
+            line("ana@example.com"),
+            "{not json",
+            line("taken@example.com"),
+            line("ana@example.com"),
+            "",
+            line("not-an-email"),
+            line("ion@example.com")
+        ));
+
+        assertEquals(2, report.imported());
+        assertEquals(2, report.duplicates());
+        assertEquals(2, report.rejected());
+        assertEquals(List.of(2L, 3L, 4L, 6L),
+            report.errors().stream().map(UserImportErrorDto::line).sorted().toList());
+
+        ArgumentCaptor<UsersBulkCreateRequestDto> created =
+            ArgumentCaptor.forClass(UsersBulkCreateRequestDto.class);
+        verify(usersClient, times(2)).createUsers(created.capture());
+        List<UserRequestDto> users = created.getAllValues().stream()
+            .flatMap(request -> request.users().stream())
+            .toList();
+        assertEquals(List.of("ana@example.com", "ion@example.com"),
+            users.stream().map(UserRequestDto::email).toList());
+        assertTrue(users.stream()
+            .allMatch(user -> passwordEncoder.matches("Secret123!", user.password())));
+    }
+
+    @Test
+    void importUsers_whenUsersServiceFails_shouldRejectTheBatch() throws IOException {
+        when(usersClient.findExistingEmails(any(EmailsLookupRequestDto.class)))
+            .thenThrow(FeignException.ServiceUnavailable.class);
+
+        UserImportReportDto report = userImportService.importUsers(ndjson(
+            line("ana@example.com"),
+            line("ion@example.com")
+        ));
+
+        assertEquals(0, report.imported());
+        assertEquals(2, report.rejected());
+        verify(usersClient, never()).createUsers(any());
+    }
+
+    private static String line(final String email) {
+        return """
+            {"email":"%s","password":"Secret123!","firstName":"Bulk","lastName":"User",\
+            "birthDate":"1990-01-01","sex":"FEMALE"}""".formatted(email);
+    }
+
+    private static ByteArrayInputStream ndjson(final String... lines) {
+        return new ByteArrayInputStream(
+            String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
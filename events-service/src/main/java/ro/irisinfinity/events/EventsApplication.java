@@ -2,12 +2,14 @@ package ro.irisinfinity.events;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {"ro.irisinfinity.events", "ro.irisinfinity.platform.common"}
 )
-@EnableFeignClients(basePackages = "ro.irisinfinity.events.client")
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class EventsApplication {
 
     public static void main(String[] args) {
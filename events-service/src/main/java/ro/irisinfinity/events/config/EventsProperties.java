@@ -0,0 +1,90 @@
+package ro.irisinfinity.events.config;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "events")
+public class EventsProperties {
+
+    @NestedConfigurationProperty
+    private LocationsCache locationsCache = new LocationsCache();
+
+    @NestedConfigurationProperty
+    private Admission admission = new Admission();
+
+    @NestedConfigurationProperty
+    private JoinBatching joinBatching = new JoinBatching();
+
+    @NestedConfigurationProperty
+    private BulkImport bulkImport = new BulkImport();
+
+    @NestedConfigurationProperty
+    private Streams streams = new Streams();
+
+    @NestedConfigurationProperty
+    private Changes changes = new Changes();
+
+    @Data
+    @NoArgsConstructor
+    public static class LocationsCache {
+
+        private long maximumSize = 10_000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Admission {
+
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class JoinBatching {
+
+        private boolean enabled = false;
+        private int queueCapacity = 10_000;
+        private int maxBatchSize = 500;
+        private Duration flushInterval = Duration.ofMillis(5);
+        // Past this a caller stops waiting for the flusher and inserts its join directly.
+        private Duration waitTimeout = Duration.ofSeconds(2);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class BulkImport {
+
+        private int batchSize = 500;
+        private int maxReportedErrors = 1000;
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Streams {
+
+        private Duration flushInterval = Duration.ofSeconds(1);
+        private int bufferSize = 16;
+        private int maxJoinedPerMessage = 100;
+        private int maxSubscribers = 10_000;
+        private Duration emitterTimeout = Duration.ofMinutes(30);
+        private Duration heartbeatInterval = Duration.ofSeconds(15);
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class Changes {
+
+        private Duration pollInterval = Duration.ofMillis(500);
+        private int stampBatchSize = 1000;
+        private Duration maxWait = Duration.ofSeconds(60);
+        private Duration retention = Duration.ofDays(7);
+        private Duration compactionInterval = Duration.ofHours(1);
+        private int compactionBatchSize = 5_000;
+    }
+}
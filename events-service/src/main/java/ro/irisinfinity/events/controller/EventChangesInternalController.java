@@ -0,0 +1,27 @@
+package ro.irisinfinity.events.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import ro.irisinfinity.events.service.EventChangeFeed;
+import ro.irisinfinity.platform.common.dto.events.EventChangesPageDto;
+
+@RestController
+@RequestMapping("/api/v1/internal/events/changes")
+@RequiredArgsConstructor
+public class EventChangesInternalController {
+
+    private final EventChangeFeed eventChangeFeed;
+
+    @GetMapping
+    public DeferredResult<EventChangesPageDto> getChanges(
+        @RequestParam(name = "after", defaultValue = "0") final long after,
+        @RequestParam(name = "limit", defaultValue = "100") final int limit,
+        @RequestParam(name = "wait", defaultValue = "25") final int waitSeconds
+    ) {
+        return eventChangeFeed.poll(after, limit, waitSeconds);
+    }
+}
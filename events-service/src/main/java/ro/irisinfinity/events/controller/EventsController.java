@@ -1,7 +1,15 @@
 package ro.irisinfinity.events.controller;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -10,17 +18,38 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ro.irisinfinity.events.service.CalendarFeedService;
+import ro.irisinfinity.events.service.EventImportService;
 import ro.irisinfinity.events.service.EventsService;
+import ro.irisinfinity.events.service.ParticipantStreamHub;
+import ro.irisinfinity.platform.common.dto.events.EventCodesLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.events.EventImportReportDto;
+import ro.irisinfinity.platform.common.dto.events.EventLookupResultDto;
 import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
 import ro.irisinfinity.platform.common.dto.events.EventResponseDto;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.JoinAcknowledgementDto;
+import ro.irisinfinity.platform.common.dto.events.NearbyEventDto;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
 
 @RestController
 @RequestMapping(value = "/api/v1/events", produces = "application/json")
 @RequiredArgsConstructor
 public class EventsController {
 
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType(
+        "text/calendar;charset=UTF-8");
+
     private final EventsService eventsService;
+    private final CalendarFeedService calendarFeedService;
+    private final EventImportService eventImportService;
+    private final ParticipantStreamHub participantStreamHub;
 
     @PostMapping(consumes = "application/json")
     @PreAuthorize("hasRole('ADMIN')")
@@ -28,14 +57,122 @@ public class EventsController {
         return eventsService.createEvent(eventRequestDto);
     }
 
+    @PostMapping(value = "/bulk", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public EventImportReportDto importEvents(final InputStream ndjson) throws IOException {
+        return eventImportService.importEvents(ndjson);
+    }
+
+    @PostMapping(value = "/batch", consumes = "application/json")
+    public List<EventLookupResultDto> getEventsByCodes(
+        @RequestBody @Valid final EventCodesLookupRequestDto eventCodesLookupRequestDto,
+        @RequestParam(name = "participants", defaultValue = "false") final boolean participants
+    ) {
+        return eventsService.getEventsByCodes(eventCodesLookupRequestDto.codes(), participants);
+    }
+
+    @GetMapping
+    public CursorPageDto<EventSummaryDto> getEvents(
+        @RequestParam(name = "from", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam(name = "to", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to,
+        @RequestParam(name = "owner", required = false) final UUID owner,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "limit", defaultValue = "50") final int limit
+    ) {
+        return eventsService.getEvents(from, to, owner, cursor, limit);
+    }
+
+    @GetMapping("/search")
+    public List<EventSummaryDto> searchEvents(
+        @RequestParam(name = "q") final String query,
+        @RequestParam(name = "limit", defaultValue = "10") final int limit
+    ) {
+        return eventsService.searchEvents(query, limit);
+    }
+
+    @GetMapping("/nearby")
+    public List<NearbyEventDto> getNearbyEvents(
+        @RequestParam(name = "lat") final double latitude,
+        @RequestParam(name = "lon") final double longitude,
+        @RequestParam(name = "radiusKm", defaultValue = "10") final double radiusKm,
+        @RequestParam(name = "from", required = false)
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam(name = "limit", defaultValue = "20") final int limit
+    ) {
+        return eventsService.getNearbyEvents(latitude, longitude, radiusKm, from, limit);
+    }
+
     @GetMapping("/{code}")
-    public EventResponseDto getEventByCode(@PathVariable final String code) {
-        return eventsService.getEventByCode(code);
+    public EventResponseDto getEventByCode(
+        @PathVariable final String code,
+        @RequestParam(name = "summary", defaultValue = "false") final boolean summary,
+        final WebRequest request
+    ) {
+        if (request.checkNotModified(eventsService.getEventTag(code, summary))) {
+            return null;
+        }
+        return eventsService.getEventByCode(code, summary);
+    }
+
+    @GetMapping("/mine")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageDto<EventSummaryDto> getMyEvents(
+        @AuthenticationPrincipal final Jwt jwt,
+        @RequestParam(name = "role", defaultValue = "participant") final String role,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "limit", defaultValue = "50") final int limit
+    ) {
+        return eventsService.getMyEvents(jwt, role, cursor, limit);
+    }
+
+    @GetMapping(value = "/mine.ics", produces = "text/calendar")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> getMyCalendar(
+        @AuthenticationPrincipal final Jwt jwt,
+        final WebRequest request
+    ) {
+        UUID participantUserId = UUID.fromString(jwt.getClaimAsString("userId"));
+        if (request.checkNotModified(calendarFeedService.getParticipantFeedTag(participantUserId))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(TEXT_CALENDAR)
+            .body(outputStream -> calendarFeedService.writeParticipantFeed(participantUserId,
+                outputStream));
+    }
+
+    @GetMapping(value = "/{code}.ics", produces = "text/calendar")
+    public ResponseEntity<StreamingResponseBody> getEventCalendar(
+        @PathVariable final String code,
+        final WebRequest request
+    ) {
+        if (request.checkNotModified(String.valueOf(eventsService.getEventVersion(code)))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+            .contentType(TEXT_CALENDAR)
+            .body(outputStream -> calendarFeedService.writeEventFeed(code, outputStream));
+    }
+
+    @GetMapping(value = "/{code}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamParticipants(@PathVariable final String code) {
+        return participantStreamHub.open(code);
+    }
+
+    @GetMapping("/{code}/participants")
+    public CursorPageDto<ParticipantDto> getParticipants(
+        @PathVariable final String code,
+        @RequestParam(name = "cursor", required = false) final String cursor,
+        @RequestParam(name = "limit", defaultValue = "50") final int limit
+    ) {
+        return eventsService.getParticipants(code, cursor, limit);
     }
 
     @PostMapping("/{code}/join")
     @PreAuthorize("isAuthenticated()")
-    public EventResponseDto joinEvent(
+    public JoinAcknowledgementDto joinEvent(
         @PathVariable final String code,
         @AuthenticationPrincipal final Jwt jwt
     ) {
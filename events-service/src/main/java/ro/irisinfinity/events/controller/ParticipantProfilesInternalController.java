@@ -0,0 +1,28 @@
+package ro.irisinfinity.events.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import ro.irisinfinity.events.service.ParticipantProfileService;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+
+@RestController
+@RequestMapping("/api/v1/internal/participant-profiles")
+@RequiredArgsConstructor
+public class ParticipantProfilesInternalController {
+
+    private final ParticipantProfileService participantProfileService;
+
+    @PutMapping
+    @PreAuthorize("hasRole('SERVICE')")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void syncProfiles(@RequestBody @Valid final ParticipantProfilesSyncDto sync) {
+        participantProfileService.sync(sync);
+    }
+}
@@ -6,11 +6,13 @@ import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.Set;
@@ -18,16 +20,37 @@ import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
-@Table(name = "events")
+@Table(
+    name = "events",
+    indexes = {
+        @Index(name = "idx_events_date_id", columnList = "date, id"),
+        @Index(name = "idx_events_owner_user_id_date_id", columnList = "owner_user_id, date, id")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 public class Event {
 
+    public static final String ID_SEQUENCE = "events_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // EventImportService takes whole blocks from this sequence with plain JDBC. That is only safe
+    // with pooled-lo, where a fetched value is the low end of its block, so it is pinned here.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_SEQUENCE)
+    @GenericGenerator(name = ID_SEQUENCE, type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+        @Parameter(name = OptimizableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
 
     @Column(nullable = false, unique = true, length = 40)
@@ -46,10 +69,30 @@ public class Event {
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
 
+    @Column(name = "capacity")
+    private Integer capacity;
+
+    @ColumnDefault("0")
+    @Column(name = "participant_count", nullable = false)
+    private long participantCount;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
         name = "event_participants",
-        joinColumns = @JoinColumn(name = "event_id")
+        joinColumns = @JoinColumn(name = "event_id"),
+        uniqueConstraints = @UniqueConstraint(
+            name = "uk_event_participants_event_user",
+            columnNames = {"event_id", "participant_user_id"}
+        ),
+        indexes = @Index(
+            name = "idx_event_participants_user_event",
+            columnList = "participant_user_id, event_id"
+        )
     )
     @Column(name = "participant_user_id", nullable = false)
     private Set<UUID> participants = new HashSet<>();
@@ -0,0 +1,55 @@
+package ro.irisinfinity.events.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+@Entity
+@Getter
+@Setter
+@Table(
+    name = "event_changes",
+    indexes = @Index(name = "idx_event_changes_recorded_at", columnList = "recorded_at")
+)
+@NoArgsConstructor
+public class EventChange {
+
+    public static final String ID_SEQUENCE = "event_changes_id_seq";
+
+    // Batched writers take ids straight from nextval(), so the sequence is not pooled.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = 1)
+    private Long id;
+
+    // Null until the change is stamped after its transaction commits. Consumers resume from the
+    // last seq they saw.
+    @Column(unique = true)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private EventChangeType type;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "participant_user_id")
+    private UUID participantUserId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+}
@@ -0,0 +1,30 @@
+package ro.irisinfinity.events.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Single row holding the last seq stamped on an {@link EventChange}. Stampers lock it while they
+ * stamp, so only one of them runs at a time across instances; writers never touch it. It is only
+ * read through JDBC.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "event_changes_lock")
+@NoArgsConstructor
+public class EventChangesLock {
+
+    public static final short ROW_ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -3,12 +3,15 @@ package ro.irisinfinity.events.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 
 @Entity
 @Getter
@@ -17,8 +20,18 @@ import lombok.Setter;
 @NoArgsConstructor
 public class Location {
 
+    public static final String ID_SEQUENCE = "locations_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // LocationService inserts rows with a fetched nextval() as the id. Only under pooled-lo does a
+    // fetched value start a block nobody else uses, so the optimizer is pinned here.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_SEQUENCE)
+    @GenericGenerator(name = ID_SEQUENCE, type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+        @Parameter(name = OptimizableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     private Long id;
 
     @Column(nullable = false, length = 150)
@@ -26,4 +39,14 @@ public class Location {
 
     @Column(length = 255)
     private String address;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    // Null only for rows created before the key existed, until LocationKeyBackfill reaches them.
+    @Column(name = "normalized_key", unique = true, length = 410)
+    private String normalizedKey;
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package ro.irisinfinity.events.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * Local copy of the user fields events render for participants, pushed by users-service.
+ * {@code userVersion} is the version of the user the row was copied from, so a late push can never
+ * overwrite a newer one. Deleted users stay behind as {@code deleted} rows without names; user ids
+ * are never reused, so nothing is applied to a tombstone again.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "participant_profiles")
+@NoArgsConstructor
+public class ParticipantProfile {
+
+    @Id
+    @Column(name = "external_id")
+    private UUID externalId;
+
+    @Column(name = "first_name", length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", length = 50)
+    private String lastName;
+
+    @Column(name = "user_version", nullable = false)
+    private long userVersion;
+
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted;
+}
@@ -0,0 +1,14 @@
+package ro.irisinfinity.events.exception;
+
+import ro.irisinfinity.platform.common.exception.ConflictException;
+
+public class EventFullException extends ConflictException {
+
+    public EventFullException() {
+        super("Event is full");
+    }
+
+    public EventFullException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package ro.irisinfinity.events.repository;
+
+import java.time.LocalDate;
+
+public record CalendarEntry(
+    String code,
+    String name,
+    LocalDate date,
+    String locationName,
+    String locationAddress,
+    Double latitude,
+    Double longitude
+) {
+
+}
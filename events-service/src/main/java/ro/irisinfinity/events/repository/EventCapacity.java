@@ -0,0 +1,9 @@
+package ro.irisinfinity.events.repository;
+
+public record EventCapacity(
+    Long id,
+    Integer capacity,
+    long participantCount
+) {
+
+}
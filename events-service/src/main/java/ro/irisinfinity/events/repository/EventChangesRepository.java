@@ -0,0 +1,34 @@
+package ro.irisinfinity.events.repository;
+
+import java.time.Instant;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.entity.EventChange;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+
+public interface EventChangesRepository extends JpaRepository<EventChange, Long> {
+
+    @Query("""
+        select new ro.irisinfinity.platform.common.dto.events.EventChangeDto(
+            c.seq, c.type, c.eventId, e.code, c.participantUserId, c.recordedAt)
+        from EventChange c join Event e on e.id = c.eventId
+        where c.seq > :after
+        order by c.seq
+        """)
+    List<EventChangeDto> findChanges(@Param("after") long after, Limit limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        delete from event_changes where id in (
+            select id from event_changes
+            where recorded_at < :cutoff and seq is not null
+            order by id limit :limit)
+        """, nativeQuery = true)
+    int deleteRecordedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
+}
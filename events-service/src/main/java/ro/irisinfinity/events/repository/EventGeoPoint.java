@@ -0,0 +1,12 @@
+package ro.irisinfinity.events.repository;
+
+import java.time.LocalDate;
+
+public record EventGeoPoint(
+    Long eventId,
+    LocalDate date,
+    Double latitude,
+    Double longitude
+) {
+
+}
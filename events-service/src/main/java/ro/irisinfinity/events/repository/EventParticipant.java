@@ -0,0 +1,16 @@
+package ro.irisinfinity.events.repository;
+
+import java.util.UUID;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
+
+public record EventParticipant(
+    Long eventId,
+    UUID externalId,
+    String firstName,
+    String lastName
+) {
+
+    public ParticipantDto toParticipantDto() {
+        return new ParticipantDto(externalId, firstName, lastName);
+    }
+}
@@ -0,0 +1,10 @@
+package ro.irisinfinity.events.repository;
+
+public record EventSearchDocument(
+    Long eventId,
+    String eventName,
+    String locationName,
+    String locationAddress
+) {
+
+}
@@ -0,0 +1,57 @@
+package ro.irisinfinity.events.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.data.jpa.domain.Specification;
+import ro.irisinfinity.events.entity.Event;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> fetchLocation() {
+        return (root, query, cb) -> {
+            root.fetch("location");
+            return cb.conjunction();
+        };
+    }
+
+    public static Specification<Event> dateFrom(final LocalDate from) {
+        return (root, query, cb) -> from == null
+            ? null
+            : cb.greaterThanOrEqualTo(root.get("date"), from);
+    }
+
+    public static Specification<Event> dateTo(final LocalDate to) {
+        return (root, query, cb) -> to == null
+            ? null
+            : cb.lessThanOrEqualTo(root.get("date"), to);
+    }
+
+    public static Specification<Event> ownedBy(final UUID ownerUserId) {
+        return (root, query, cb) -> ownerUserId == null
+            ? null
+            : cb.equal(root.get("ownerUserId"), ownerUserId);
+    }
+
+    public static Specification<Event> joinedBy(final UUID participantUserId) {
+        return (root, query, cb) -> participantUserId == null
+            ? null
+            : cb.equal(root.join("participants"), participantUserId);
+    }
+
+    public static Specification<Event> after(final LocalDate date, final Long id) {
+        // The redundant lower bound on date gives the planner an index range to start from; the
+        // or-expression alone would not use idx_events_date_id.
+        return (root, query, cb) -> date == null
+            ? null
+            : cb.and(
+                cb.greaterThanOrEqualTo(root.get("date"), date),
+                cb.or(
+                    cb.greaterThan(root.get("date"), date),
+                    cb.and(cb.equal(root.get("date"), date), cb.greaterThan(root.get("id"), id))
+                )
+            );
+    }
+}
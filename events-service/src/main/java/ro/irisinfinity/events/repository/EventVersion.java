@@ -0,0 +1,8 @@
+package ro.irisinfinity.events.repository;
+
+public record EventVersion(
+    long eventId,
+    long version
+) {
+
+}
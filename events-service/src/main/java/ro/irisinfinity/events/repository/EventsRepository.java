@@ -1,14 +1,185 @@
 package ro.irisinfinity.events.repository;
 
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ro.irisinfinity.events.entity.Event;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
 
-public interface EventsRepository extends JpaRepository<Event, Long> {
+public interface EventsRepository extends JpaRepository<Event, Long>,
+    JpaSpecificationExecutor<Event> {
 
     @EntityGraph(attributePaths = "location")
     Optional<Event> findByCode(String code);
 
+    @EntityGraph(attributePaths = "location")
+    List<Event> findByCodeIn(Collection<String> codes);
+
+    @EntityGraph(attributePaths = "location")
+    List<Event> findByIdIn(Collection<Long> ids);
+
     boolean existsByCode(String code);
-}
\ No newline at end of file
+
+    @Query("select e.id from Event e where e.code = :code")
+    Optional<Long> findIdByCode(@Param("code") String code);
+
+    @Query("select e.version from Event e where e.code = :code")
+    Optional<Long> findVersionByCode(@Param("code") String code);
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventVersion(e.id, e.version)
+        from Event e
+        where e.code = :code
+        """)
+    Optional<EventVersion> findEventVersionByCode(@Param("code") String code);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new ro.irisinfinity.events.repository.ParticipantProfileVersion(
+            p, pp.userVersion)
+        from Event e join e.participants p
+        join ParticipantProfile pp on pp.externalId = p
+        where e.id = :eventId
+        order by p
+        """)
+    Stream<ParticipantProfileVersion> streamParticipantProfileVersions(
+        @Param("eventId") Long eventId);
+
+    @Query("""
+        select new ro.irisinfinity.platform.common.dto.events.ParticipantDto(
+            p, pp.firstName, pp.lastName)
+        from Event e join e.participants p
+        left join ParticipantProfile pp on pp.externalId = p
+        where e.id = :eventId
+        order by p
+        """)
+    List<ParticipantDto> findParticipants(@Param("eventId") Long eventId, Limit limit);
+
+    @Query("""
+        select new ro.irisinfinity.platform.common.dto.events.ParticipantDto(
+            p, pp.firstName, pp.lastName)
+        from Event e join e.participants p
+        left join ParticipantProfile pp on pp.externalId = p
+        where e.id = :eventId and p > :after
+        order by p
+        """)
+    List<ParticipantDto> findParticipantsAfter(@Param("eventId") Long eventId,
+        @Param("after") UUID after, Limit limit);
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventParticipant(
+            e.id, p, pp.firstName, pp.lastName)
+        from Event e join e.participants p
+        left join ParticipantProfile pp on pp.externalId = p
+        where e.id in :eventIds
+        order by e.id, p
+        """)
+    List<EventParticipant> findParticipantsByEventIdIn(
+        @Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query(value = """
+        insert into event_participants (event_id, participant_user_id)
+        values (:eventId, :participantUserId)
+        on conflict do nothing
+        """, nativeQuery = true)
+    int insertParticipant(@Param("eventId") Long eventId,
+        @Param("participantUserId") UUID participantUserId);
+
+    @Query("""
+        select count(e) > 0
+        from Event e join e.participants p
+        where e.code = :code and p = :participantUserId
+        """)
+    boolean existsParticipantByCode(@Param("code") String code,
+        @Param("participantUserId") UUID participantUserId);
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventCapacity(
+            e.id, e.capacity, e.participantCount)
+        from Event e where e.code = :code
+        """)
+    Optional<EventCapacity> findCapacityByCode(@Param("code") String code);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Event e
+        set e.participantCount = e.participantCount + 1, e.version = e.version + 1
+        where e.id = :eventId and (e.capacity is null or e.participantCount < e.capacity)
+        """)
+    int incrementParticipantCount(@Param("eventId") Long eventId);
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.CalendarEntry(
+            e.code, e.name, e.date, l.name, l.address, l.latitude, l.longitude)
+        from Event e join e.location l
+        where e.code = :code
+        """)
+    Optional<CalendarEntry> findCalendarEntryByCode(@Param("code") String code);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new ro.irisinfinity.events.repository.CalendarEntry(
+            e.code, e.name, e.date, l.name, l.address, l.latitude, l.longitude)
+        from Event e join e.location l join e.participants p
+        where p = :participantUserId
+        order by e.date, e.id
+        """)
+    Stream<CalendarEntry> streamCalendarEntries(
+        @Param("participantUserId") UUID participantUserId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventVersion(e.id, e.version)
+        from Event e join e.participants p
+        where p = :participantUserId
+        order by e.id
+        """)
+    Stream<EventVersion> streamJoinedEventVersions(
+        @Param("participantUserId") UUID participantUserId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventSearchDocument(
+            e.id, e.name, l.name, l.address)
+        from Event e join e.location l
+        """)
+    Stream<EventSearchDocument> streamSearchDocuments();
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventSearchDocument(
+            e.id, e.name, l.name, l.address)
+        from Event e join e.location l
+        where e.id in :ids
+        """)
+    List<EventSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventGeoPoint(
+            e.id, e.date, l.latitude, l.longitude)
+        from Event e join e.location l
+        where l.latitude is not null and l.longitude is not null
+        """)
+    Stream<EventGeoPoint> streamGeoPoints();
+
+    @Query("""
+        select new ro.irisinfinity.events.repository.EventGeoPoint(
+            e.id, e.date, l.latitude, l.longitude)
+        from Event e join e.location l
+        where e.id in :ids and l.latitude is not null and l.longitude is not null
+        """)
+    List<EventGeoPoint> findGeoPointsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,8 +1,10 @@
 package ro.irisinfinity.events.repository;
 
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ro.irisinfinity.events.entity.Location;
 
-public interface LocationRepository extends JpaRepository<Location, Integer> {
+public interface LocationRepository extends JpaRepository<Location, Long> {
 
-}
\ No newline at end of file
+    Optional<Location> findByNormalizedKey(String normalizedKey);
+}
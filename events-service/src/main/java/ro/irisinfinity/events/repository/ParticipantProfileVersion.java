@@ -0,0 +1,10 @@
+package ro.irisinfinity.events.repository;
+
+import java.util.UUID;
+
+public record ParticipantProfileVersion(
+    UUID externalId,
+    long version
+) {
+
+}
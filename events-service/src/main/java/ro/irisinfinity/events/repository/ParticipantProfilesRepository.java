@@ -0,0 +1,9 @@
+package ro.irisinfinity.events.repository;
+
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import ro.irisinfinity.events.entity.ParticipantProfile;
+
+public interface ParticipantProfilesRepository extends JpaRepository<ParticipantProfile, UUID> {
+
+}
@@ -0,0 +1,65 @@
+package ro.irisinfinity.events.service;
+
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.CalendarEntry;
+import ro.irisinfinity.events.repository.EventVersion;
+import ro.irisinfinity.events.repository.EventsRepository;
+
+/**
+ * iCalendar feeds for a single event and for all events a participant joined. Feeds are written
+ * from flat projections straight to the response stream; no entities, participants or users are
+ * loaded. Validators are computed from (event id, version) pairs alone, so unchanged feeds can be
+ * answered with {@code 304 Not Modified} before anything is generated.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final String PARTICIPANT_CALENDAR_NAME = "My events";
+
+    private final EventsRepository eventsRepository;
+
+    /**
+     * Hashes the id and version of every joined event, so the tag changes when an event is edited
+     * and when membership changes, even if the event count and version total stay the same.
+     */
+    @Transactional(readOnly = true)
+    public String getParticipantFeedTag(final UUID participantUserId) {
+        TagDigest digest = new TagDigest();
+        try (Stream<EventVersion> versions = eventsRepository.streamJoinedEventVersions(
+            participantUserId)) {
+            versions.forEach(version -> digest.add(version.eventId(), version.version()));
+        }
+        return digest.toTag();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeEventFeed(final String code, final OutputStream outputStream) {
+        CalendarEntry entry = eventsRepository.findCalendarEntryByCode(code)
+            .orElseThrow(EventNotFoundException::new);
+
+        ICalendarWriter writer = new ICalendarWriter(outputStream, Instant.now());
+        writer.begin(entry.name());
+        writer.event(entry);
+        writer.end();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeParticipantFeed(final UUID participantUserId,
+        final OutputStream outputStream) {
+        ICalendarWriter writer = new ICalendarWriter(outputStream, Instant.now());
+        writer.begin(PARTICIPANT_CALENDAR_NAME);
+        try (Stream<CalendarEntry> entries = eventsRepository.streamCalendarEntries(
+            participantUserId)) {
+            entries.forEach(writer::event);
+        }
+        writer.end();
+    }
+}
@@ -0,0 +1,271 @@
+package ro.irisinfinity.events.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.entity.EventChange;
+import ro.irisinfinity.events.entity.EventChangesLock;
+import ro.irisinfinity.events.repository.EventChangesRepository;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+import ro.irisinfinity.platform.common.dto.events.EventChangesPageDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+/**
+ * Transactional outbox of event changes. Changes are recorded in the caller's transaction without
+ * a seq and read back in {@code seq} order by consumers that resume from the last seq they
+ * processed. Seqs are stamped after commit, every {@code poll-interval}, by one stamper at a time
+ * across instances: it locks the {@link EventChangesLock} row, numbers the committed changes that
+ * have no seq yet and commits. A visible seq therefore never has a lower seq committed after it,
+ * so a reader never skips a change, and writers never wait for each other. Long-polling readers
+ * are parked and re-checked after every stamping round with one query per distinct resume
+ * position.
+ */
+@Slf4j
+@Service
+public class EventChangeFeed {
+
+    static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    private static final String INSERT_CHANGE_SQL = """
+        insert into event_changes (id, type, event_id, participant_user_id, recorded_at)
+        values (nextval('%s'), ?, ?, ?, ?)
+        """.formatted(EventChange.ID_SEQUENCE);
+    private static final String INIT_LOCK_SQL =
+        "insert into event_changes_lock (id, last_seq) values (?, 0) on conflict do nothing";
+    // Another instance holding the row is stamping already; this round is left to it.
+    private static final String LOCK_SQL =
+        "select last_seq from event_changes_lock where id = ? for update skip locked";
+    private static final String SELECT_UNSTAMPED_SQL =
+        "select id from event_changes where seq is null order by id limit ?";
+    private static final String STAMP_SQL = "update event_changes set seq = ? where id = ?";
+    private static final String SELECT_LAST_SEQ_SQL =
+        "select last_seq from event_changes_lock where id = ?";
+    private static final String SAVE_LAST_SEQ_SQL =
+        "update event_changes_lock set last_seq = ? where id = ?";
+
+    private final EventChangesRepository eventChangesRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventsProperties.Changes properties;
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService poller;
+
+    public EventChangeFeed(
+        final EventChangesRepository eventChangesRepository,
+        final JdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        final EventsProperties eventsProperties
+    ) {
+        this.eventChangesRepository = eventChangesRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = eventsProperties.getChanges();
+    }
+
+    @PostConstruct
+    void start() {
+        jdbcTemplate.update(INIT_LOCK_SQL, EventChangesLock.ROW_ID);
+
+        long intervalMillis = properties.getPollInterval().toMillis();
+        poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("event-change-poller")
+            .daemon()
+            .factory());
+        poller.scheduleWithFixedDelay(this::stampAndWake, intervalMillis, intervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final EventChangeType type, final Long eventId,
+        final UUID participantUserId) {
+        jdbcTemplate.update(INSERT_CHANGE_SQL, type.name(), eventId, participantUserId,
+            Timestamp.from(Instant.now()));
+    }
+
+    /**
+     * Batch variant of {@link #record}. Both write through JDBC straight away, not at flush time.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(final EventChangeType type, final List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Timestamp recordedAt = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_CHANGE_SQL, changes.stream()
+            .map(change -> new Object[]{
+                type.name(), change.eventId(), change.participantUserId(), recordedAt})
+            .toList());
+    }
+
+    @Transactional(readOnly = true)
+    public EventChangesPageDto read(final long after, final int limit) {
+        List<EventChangeDto> changes = eventChangesRepository.findChanges(after,
+            Limit.of(Math.clamp(limit, 1, MAX_CHANGES_PAGE_SIZE)));
+        return toPage(after, changes);
+    }
+
+    /**
+     * The highest seq stamped so far. Every change up to it is committed and readable.
+     */
+    public long head() {
+        return Objects.requireNonNull(jdbcTemplate.queryForObject(SELECT_LAST_SEQ_SQL, Long.class,
+            EventChangesLock.ROW_ID));
+    }
+
+    public DeferredResult<EventChangesPageDto> poll(final long after, final int limit,
+        final int waitSeconds) {
+        int pageSize = Math.clamp(limit, 1, MAX_CHANGES_PAGE_SIZE);
+        long waitMillis = TimeUnit.SECONDS.toMillis(
+            Math.clamp(waitSeconds, 0, properties.getMaxWait().toSeconds()));
+        DeferredResult<EventChangesPageDto> result = new DeferredResult<>(waitMillis,
+            () -> new EventChangesPageDto(List.of(), after));
+
+        EventChangesPageDto page = read(after, pageSize);
+        if (!page.changes().isEmpty() || waitMillis == 0) {
+            result.setResult(page);
+            return result;
+        }
+
+        Waiter waiter = new Waiter(after, pageSize, result);
+        waiters.add(waiter);
+        result.onCompletion(() -> waiters.remove(waiter));
+        return result;
+    }
+
+    @Scheduled(
+        initialDelayString = "${events.changes.compaction-interval:PT1H}",
+        fixedDelayString = "${events.changes.compaction-interval:PT1H}"
+    )
+    public void compact() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        long deleted = 0;
+        int batch;
+        do {
+            batch = eventChangesRepository.deleteRecordedBefore(cutoff,
+                properties.getCompactionBatchSize());
+            deleted += batch;
+        } while (batch == properties.getCompactionBatchSize());
+
+        if (deleted > 0) {
+            log.info("Event changes compacted: deleted={}, cutoff={}", deleted, cutoff);
+        }
+    }
+
+    /**
+     * Numbers committed changes that have no seq yet, in batches of {@code stamp-batch-size}.
+     * Returns how many were stamped, or 0 when another instance holds the stamper lock.
+     */
+    public synchronized int stamp() {
+        int stamped = 0;
+        int batch;
+        do {
+            batch = Objects.requireNonNull(transactionTemplate.execute(status -> stampBatch()));
+            stamped += batch;
+        } while (batch == properties.getStampBatchSize());
+        return stamped;
+    }
+
+    void wakeWaiters() {
+        waiters.removeIf(waiter -> waiter.result().isSetOrExpired());
+        if (waiters.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Waiter>> waitersByPosition = waiters.stream()
+            .collect(Collectors.groupingBy(Waiter::after));
+        waitersByPosition.forEach((after, parked) -> {
+            try {
+                int pageSize = parked.stream().mapToInt(Waiter::limit).max().orElseThrow();
+                EventChangesPageDto page = read(after, pageSize);
+                if (page.changes().isEmpty()) {
+                    return;
+                }
+                List<EventChangeDto> changes = page.changes();
+                parked.forEach(waiter -> {
+                    waiter.result().setResult(toPage(after,
+                        changes.subList(0, Math.min(waiter.limit(), changes.size()))));
+                    waiters.remove(waiter);
+                });
+            } catch (RuntimeException e) {
+                log.warn("Event change poll failed: after={}", after, e);
+            }
+        });
+    }
+
+    private void stampAndWake() {
+        try {
+            stamp();
+        } catch (RuntimeException e) {
+            log.warn("Event change stamping failed", e);
+        }
+        wakeWaiters();
+    }
+
+    private int stampBatch() {
+        List<Long> lastSeq = jdbcTemplate.queryForList(LOCK_SQL, Long.class,
+            EventChangesLock.ROW_ID);
+        if (lastSeq.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_UNSTAMPED_SQL, Long.class,
+            properties.getStampBatchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        long seq = lastSeq.getFirst();
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[]{++seq, id});
+        }
+        jdbcTemplate.batchUpdate(STAMP_SQL, rows);
+        jdbcTemplate.update(SAVE_LAST_SEQ_SQL, seq, EventChangesLock.ROW_ID);
+        return ids.size();
+    }
+
+    private static EventChangesPageDto toPage(final long after,
+        final List<EventChangeDto> changes) {
+        long next = changes.isEmpty() ? after : changes.getLast().seq();
+        return new EventChangesPageDto(changes, next);
+    }
+
+    public record Change(Long eventId, UUID participantUserId) {
+
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<EventChangesPageDto> result) {
+
+    }
+}
@@ -0,0 +1,93 @@
+package ro.irisinfinity.events.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.platform.common.dto.events.EventChangesPageDto;
+
+/**
+ * Follows the {@link EventChangeFeed} for this instance and republishes every stamped page as an
+ * {@link EventChangesTailedEvent}, so in-process read models also see changes committed on other
+ * instances. Tailing starts after a seq captured before those read models were loaded. A page is
+ * only passed over once its listeners returned; a failing page is redelivered on the next round,
+ * so listeners must be idempotent.
+ */
+@Slf4j
+@Component
+public class EventChangeTailer {
+
+    private final EventChangeFeed eventChangeFeed;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventsProperties.Changes properties;
+
+    private long position;
+    private ScheduledExecutorService poller;
+
+    public EventChangeTailer(
+        final EventChangeFeed eventChangeFeed,
+        final ApplicationEventPublisher eventPublisher,
+        final EventsProperties eventsProperties
+    ) {
+        this.eventChangeFeed = eventChangeFeed;
+        this.eventPublisher = eventPublisher;
+        this.properties = eventsProperties.getChanges();
+    }
+
+    public synchronized void startAfter(final long seq) {
+        if (poller != null) {
+            return;
+        }
+
+        position = seq;
+        long intervalMillis = properties.getPollInterval().toMillis();
+        poller = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("event-change-tailer")
+            .daemon()
+            .factory());
+        poller.scheduleWithFixedDelay(this::tailQuietly, intervalMillis, intervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+        }
+    }
+
+    /**
+     * Publishes every change stamped since the last call and returns how many there were, or 0
+     * while tailing has not started.
+     */
+    public synchronized int tail() {
+        if (poller == null) {
+            return 0;
+        }
+
+        int tailed = 0;
+        EventChangesPageDto page;
+        do {
+            page = eventChangeFeed.read(position, EventChangeFeed.MAX_CHANGES_PAGE_SIZE);
+            if (page.changes().isEmpty()) {
+                break;
+            }
+            eventPublisher.publishEvent(new EventChangesTailedEvent(page.changes()));
+            position = page.next();
+            tailed += page.changes().size();
+        } while (page.changes().size() == EventChangeFeed.MAX_CHANGES_PAGE_SIZE);
+        return tailed;
+    }
+
+    private void tailQuietly() {
+        try {
+            tail();
+        } catch (RuntimeException e) {
+            log.warn("Event change tailing failed: position={}", position, e);
+        }
+    }
+}
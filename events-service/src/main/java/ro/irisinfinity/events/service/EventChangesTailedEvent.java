@@ -0,0 +1,16 @@
+package ro.irisinfinity.events.service;
+
+import java.util.List;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+public record EventChangesTailedEvent(List<EventChangeDto> changes) {
+
+    public List<Long> eventIds(final EventChangeType type) {
+        return changes.stream()
+            .filter(change -> change.type() == type)
+            .map(EventChangeDto::eventId)
+            .distinct()
+            .toList();
+    }
+}
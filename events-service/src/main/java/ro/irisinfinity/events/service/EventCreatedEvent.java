@@ -0,0 +1,7 @@
+package ro.irisinfinity.events.service;
+
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+
+public record EventCreatedEvent(EventSummaryDto event) {
+
+}
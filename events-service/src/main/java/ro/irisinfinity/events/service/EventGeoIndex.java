@@ -0,0 +1,176 @@
+package ro.irisinfinity.events.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.irisinfinity.events.repository.EventGeoPoint;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+/**
+ * In-process spatial index of event locations. Events are bucketed into fixed-size latitude and
+ * longitude cells. A radius query visits the cells around the centre ring by ring and stops once
+ * no cell in the next ring can hold anything nearer than the current nearest matches.
+ */
+@Component
+public class EventGeoIndex {
+
+    static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LONGITUDE_CELLS = (int) Math.round(360 / CELL_DEGREES);
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, List<EventGeoPoint>> pointsByCell = new HashMap<>();
+    private final Set<Long> indexedEventIds = new HashSet<>();
+
+    @TransactionalEventListener
+    public void onEventCreated(final EventCreatedEvent eventCreatedEvent) {
+        EventSummaryDto event = eventCreatedEvent.event();
+        LocationDto location = event.location();
+        if (location.latitude() != null && location.longitude() != null) {
+            add(new EventGeoPoint(event.id(), event.date(), location.latitude(),
+                location.longitude()));
+        }
+    }
+
+    public void add(final EventGeoPoint point) {
+        lock.writeLock().lock();
+        try {
+            if (indexedEventIds.add(point.eventId())) {
+                long cell = cell(latitudeCell(point.latitude()), longitudeCell(point.longitude()));
+                pointsByCell.computeIfAbsent(cell, key -> new ArrayList<>()).add(point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> nearest(final double latitude, final double longitude,
+        final double radiusKm, final LocalDate from, final int limit) {
+        double latitudeSpan = radiusKm / KM_PER_DEGREE;
+        double minCosLatitude = Math.cos(Math.toRadians(
+            Math.min(90, Math.abs(latitude) + latitudeSpan)));
+        double longitudeSpan = Math.min(180, latitudeSpan / Math.max(minCosLatitude, 1e-9));
+
+        int centerY = latitudeCell(latitude);
+        int centerX = (int) Math.floor(longitude / CELL_DEGREES);
+        int radiusY = (int) Math.ceil(latitudeSpan / CELL_DEGREES);
+        int minDx = -(int) Math.ceil(longitudeSpan / CELL_DEGREES);
+        int maxDx = Math.min(-minDx, minDx + LONGITUDE_CELLS - 1);
+
+        PriorityQueue<Match> nearest = new PriorityQueue<>(
+            Comparator.comparingDouble(Match::distanceKm).reversed());
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= Math.max(radiusY, -minDx); ring++) {
+                if (nearest.size() == limit
+                    && ringDistanceLowerBoundKm(ring, minCosLatitude) > nearest.peek().distanceKm()) {
+                    break;
+                }
+                for (int dy = Math.max(-ring, -radiusY); dy <= Math.min(ring, radiusY); dy++) {
+                    int step = Math.abs(dy) == ring ? 1 : 2 * ring;
+                    for (int dx = -ring; dx <= ring; dx += step) {
+                        if (dx < minDx || dx > maxDx) {
+                            continue;
+                        }
+                        List<EventGeoPoint> points = pointsByCell.get(
+                            cell(centerY + dy, wrap(centerX + dx)));
+                        if (points != null) {
+                            collect(points, latitude, longitude, radiusKm, from, limit, nearest);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Match> matches = new ArrayList<>(nearest);
+        matches.sort(Comparator.comparingDouble(Match::distanceKm));
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexedEventIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void collect(final List<EventGeoPoint> points, final double latitude,
+        final double longitude, final double radiusKm, final LocalDate from, final int limit,
+        final PriorityQueue<Match> nearest) {
+        for (EventGeoPoint point : points) {
+            if (from != null && point.date().isBefore(from)) {
+                continue;
+            }
+            double distanceKm = distanceKm(latitude, longitude, point.latitude(),
+                point.longitude());
+            if (distanceKm > radiusKm) {
+                continue;
+            }
+            if (nearest.size() < limit) {
+                nearest.add(new Match(point.eventId(), distanceKm));
+            } else if (distanceKm < nearest.peek().distanceKm()) {
+                nearest.poll();
+                nearest.add(new Match(point.eventId(), distanceKm));
+            }
+        }
+    }
+
+    // Every point in ring k is at least k - 1 whole cells away in latitude or in longitude.
+    private static double ringDistanceLowerBoundKm(final int ring, final double minCosLatitude) {
+        if (ring <= 1) {
+            return 0;
+        }
+        double degrees = (ring - 1) * CELL_DEGREES;
+        double alongLongitude = 2 * EARTH_RADIUS_KM * Math.asin(
+            Math.min(1, minCosLatitude * Math.sin(Math.toRadians(degrees) / 2)));
+        return Math.min(degrees * KM_PER_DEGREE, alongLongitude);
+    }
+
+    static double distanceKm(final double fromLatitude, final double fromLongitude,
+        final double toLatitude, final double toLongitude) {
+        double deltaLatitude = Math.toRadians(toLatitude - fromLatitude);
+        double deltaLongitude = Math.toRadians(toLongitude - fromLongitude);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+            + Math.cos(Math.toRadians(fromLatitude)) * Math.cos(Math.toRadians(toLatitude))
+            * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int latitudeCell(final double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int longitudeCell(final double longitude) {
+        return wrap((int) Math.floor(longitude / CELL_DEGREES));
+    }
+
+    private static int wrap(final int longitudeCell) {
+        return Math.floorMod(longitudeCell + LONGITUDE_CELLS / 2, LONGITUDE_CELLS)
+            - LONGITUDE_CELLS / 2;
+    }
+
+    private static long cell(final int latitudeCell, final int longitudeCell) {
+        return ((long) latitudeCell << 32) | (longitudeCell & 0xffffffffL);
+    }
+
+    public record Match(Long eventId, double distanceKm) {
+
+    }
+}
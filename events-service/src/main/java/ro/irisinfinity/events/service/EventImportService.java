@@ -0,0 +1,289 @@
+package ro.irisinfinity.events.service;
+
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.entity.Event;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.platform.common.dto.events.EventImportErrorDto;
+import ro.irisinfinity.platform.common.dto.events.EventImportReportDto;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+/**
+ * Imports events from an NDJSON stream, one {@link EventRequestDto} per line. Lines are parsed
+ * and validated as they are read and written in chunks of {@code batch-size}, one JDBC batch and
+ * one transaction per chunk, so memory is bounded by the chunk and the capped error report rather
+ * than by the size of the upload. Codes that already exist are skipped and reported as duplicates.
+ */
+@Slf4j
+@Service
+public class EventImportService {
+
+    private static final String NEXT_EVENT_ID_BLOCK_SQL =
+        "select nextval('" + Event.ID_SEQUENCE + "')";
+    private static final String INSERT_EVENT_SQL = """
+        insert into events
+            (id, code, name, date, owner_user_id, location_id, capacity, participant_count, version)
+        values (?, ?, ?, ?, ?, ?, ?, 0, 0)
+        on conflict do nothing
+        """;
+
+    private final LocationService locationService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventChangeFeed eventChangeFeed;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventsProperties.BulkImport properties;
+
+    public EventImportService(
+        final LocationService locationService,
+        final JdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        final EventChangeFeed eventChangeFeed,
+        final ObjectMapper objectMapper,
+        final Validator validator,
+        final ApplicationEventPublisher eventPublisher,
+        final EventsProperties eventsProperties
+    ) {
+        this.locationService = locationService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventChangeFeed = eventChangeFeed;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.properties = eventsProperties.getBulkImport();
+    }
+
+    public EventImportReportDto importEvents(final InputStream ndjson) throws IOException {
+        ImportReport report = new ImportReport(properties.getMaxReportedErrors());
+        List<ImportRow> chunk = new ArrayList<>(properties.getBatchSize());
+        Set<String> chunkCodes = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                EventRequestDto eventRequestDto = parse(lineNumber, line, report);
+                if (eventRequestDto == null) {
+                    continue;
+                }
+                if (!chunkCodes.add(eventRequestDto.code())) {
+                    report.duplicate(lineNumber, eventRequestDto.code());
+                    continue;
+                }
+
+                chunk.add(new ImportRow(lineNumber, eventRequestDto));
+                if (chunk.size() >= properties.getBatchSize()) {
+                    flush(chunk, report);
+                    chunk.clear();
+                    chunkCodes.clear();
+                }
+            }
+        }
+        flush(chunk, report);
+
+        log.info("Events imported: imported={}, duplicates={}, rejected={}",
+            report.imported, report.duplicates, report.rejected);
+        return report.toDto();
+    }
+
+    private EventRequestDto parse(final long lineNumber, final String line,
+        final ImportReport report) {
+        EventRequestDto eventRequestDto;
+        try {
+            eventRequestDto = objectMapper.readValue(line, EventRequestDto.class);
+        } catch (JacksonException e) {
+            report.reject(lineNumber, null, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<EventRequestDto>> violations = validator.validate(eventRequestDto);
+        if (!violations.isEmpty()) {
+            report.reject(lineNumber, eventRequestDto.code(), violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return eventRequestDto;
+    }
+
+    private void flush(final List<ImportRow> chunk, final ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<EventSummaryDto> created;
+        try {
+            created = transactionTemplate.execute(status -> write(chunk));
+        } catch (DataAccessException e) {
+            log.warn("Event import batch failed: lines {}-{}", chunk.getFirst().lineNumber(),
+                chunk.getLast().lineNumber(), e);
+            chunk.forEach(row -> report.reject(row.lineNumber(), row.event().code(),
+                "Batch write failed"));
+            return;
+        }
+
+        // Outcomes are applied once the chunk committed, so a rolled-back chunk is only counted
+        // as rejected and announces no events.
+        for (int i = 0; i < chunk.size(); i++) {
+            EventSummaryDto summary = created.get(i);
+            if (summary != null) {
+                report.imported++;
+                eventPublisher.publishEvent(new EventCreatedEvent(summary));
+            } else {
+                report.duplicate(chunk.get(i).lineNumber(), chunk.get(i).event().code());
+            }
+        }
+    }
+
+    /**
+     * Writes the chunk and returns, per row, the summary of the created event or {@code null} when
+     * the code already existed.
+     */
+    private List<EventSummaryDto> write(final List<ImportRow> chunk) {
+        Map<String, Location> locationsByKey = new HashMap<>();
+        List<Location> locations = new ArrayList<>(chunk.size());
+        List<Object[]> rows = new ArrayList<>(chunk.size());
+        long[] ids = allocateIds(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            EventRequestDto event = chunk.get(i).event();
+            LocationDto locationDto = event.location();
+            Location location = locationsByKey.computeIfAbsent(
+                LocationService.normalizedKey(locationDto.name(), locationDto.address()),
+                key -> locationService.resolve(locationDto));
+            locations.add(location);
+            rows.add(new Object[]{
+                ids[i],
+                event.code(),
+                event.name(),
+                event.date(),
+                event.ownerUserId(),
+                location.getId(),
+                new SqlParameterValue(Types.INTEGER, event.capacity())
+            });
+        }
+
+        int[] rowCounts = jdbcTemplate.batchUpdate(INSERT_EVENT_SQL, rows);
+
+        List<EventSummaryDto> created = new ArrayList<>(chunk.size());
+        List<EventChangeFeed.Change> changes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            if (rowCounts[i] > 0) {
+                created.add(toSummary(ids[i], chunk.get(i).event(), locations.get(i)));
+                changes.add(new EventChangeFeed.Change(ids[i], null));
+            } else {
+                created.add(null);
+            }
+        }
+        eventChangeFeed.recordAll(EventChangeType.EVENT_CREATED, changes);
+        return created;
+    }
+
+    /**
+     * Takes ids straight from the entity's sequence. With the pooled-lo optimizer every fetched
+     * value starts a block of {@link Event#ID_ALLOCATION_SIZE} ids owned by the caller alone.
+     */
+    private long[] allocateIds(final int count) {
+        long[] ids = new long[count];
+        int allocated = 0;
+        while (allocated < count) {
+            long low = jdbcTemplate.queryForObject(NEXT_EVENT_ID_BLOCK_SQL, Long.class);
+            for (long id = low; id < low + Event.ID_ALLOCATION_SIZE && allocated < count; id++) {
+                ids[allocated++] = id;
+            }
+        }
+        return ids;
+    }
+
+    private EventSummaryDto toSummary(final long id, final EventRequestDto event,
+        final Location location) {
+        return new EventSummaryDto(
+            id,
+            event.code(),
+            event.name(),
+            event.date(),
+            event.ownerUserId(),
+            new LocationDto(location.getName(), location.getAddress(), location.getLatitude(),
+                location.getLongitude()),
+            event.capacity(),
+            0
+        );
+    }
+
+    private record ImportRow(long lineNumber, EventRequestDto event) {
+
+    }
+
+    private static final class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<EventImportErrorDto> errors = new ArrayList<>();
+        private long imported;
+        private long duplicates;
+        private long rejected;
+        private boolean errorsTruncated;
+
+        private ImportReport(final int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void duplicate(final long lineNumber, final String code) {
+            duplicates++;
+            addError(lineNumber, code, "Event code already used: " + code);
+        }
+
+        private void reject(final long lineNumber, final String code, final String message) {
+            rejected++;
+            addError(lineNumber, code, message);
+        }
+
+        private void addError(final long lineNumber, final String code, final String message) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new EventImportErrorDto(lineNumber, code, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        private EventImportReportDto toDto() {
+            return new EventImportReportDto(imported, duplicates, rejected, List.copyOf(errors),
+                errorsTruncated);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package ro.irisinfinity.events.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.repository.EventGeoPoint;
+import ro.irisinfinity.events.repository.EventSearchDocument;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+/**
+ * Fills the in-process indexes from the database at startup and keeps them current from the
+ * {@link EventChangeTailer}, which follows changes committed on every instance: created events are
+ * added to both indexes, and events whose venue got coordinates later are added to the geo index.
+ * The local after-commit listeners on the indexes only make an instance's own writes visible
+ * without waiting for the next tailing round.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventIndexLoader {
+
+    private final EventsRepository eventsRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventGeoIndex eventGeoIndex;
+    private final EventChangeFeed eventChangeFeed;
+    private final EventChangeTailer eventChangeTailer;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long head = eventChangeFeed.head();
+        try (Stream<EventSearchDocument> documents = eventsRepository.streamSearchDocuments()) {
+            documents.forEach(eventSearchIndex::add);
+        }
+        try (Stream<EventGeoPoint> points = eventsRepository.streamGeoPoints()) {
+            points.forEach(eventGeoIndex::add);
+        }
+        eventChangeTailer.startAfter(head);
+        log.info("Event indexes loaded: searchable={}, located={}, tailingAfter={}",
+            eventSearchIndex.size(), eventGeoIndex.size(), head);
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onChangesTailed(final EventChangesTailedEvent tailed) {
+        List<Long> createdEventIds = tailed.eventIds(EventChangeType.EVENT_CREATED);
+        if (!createdEventIds.isEmpty()) {
+            eventsRepository.findSearchDocumentsByIdIn(createdEventIds)
+                .forEach(eventSearchIndex::add);
+        }
+
+        Set<Long> locatedEventIds = new HashSet<>(createdEventIds);
+        locatedEventIds.addAll(tailed.eventIds(EventChangeType.LOCATION_UPDATED));
+        if (!locatedEventIds.isEmpty()) {
+            eventsRepository.findGeoPointsByIdIn(locatedEventIds).forEach(eventGeoIndex::add);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package ro.irisinfinity.events.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ro.irisinfinity.events.repository.EventSearchDocument;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.util.TextNormalizer;
+
+/**
+ * In-process inverted index over event names and location names and addresses. Terms are folded
+ * to lower case without diacritics, so "Timișoara", "Timişoara" and "timisoara" are the same term.
+ * Every query token is matched as a term prefix; tokens that prefix no term fall back to trigram
+ * similarity. Events matching all tokens exactly rank before the remaining matches.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TRIGRAM = 3;
+    private static final double MIN_TRIGRAM_SIMILARITY = 0.3;
+    private static final int MAX_QUERY_TOKENS = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> postingsByTerm = new TreeMap<>();
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    // Documents are numbered densely in insertion order, so postings and query bitsets stay
+    // proportional to the number of indexed events however sparse or large the event ids are.
+    private final Map<Long, Integer> docsByEventId = new HashMap<>();
+    private long[] eventIdsByDoc = new long[1024];
+    private int documentCount;
+
+    @TransactionalEventListener
+    public void onEventCreated(final EventCreatedEvent eventCreatedEvent) {
+        EventSummaryDto event = eventCreatedEvent.event();
+        add(new EventSearchDocument(event.id(), event.name(), event.location().name(),
+            event.location().address()));
+    }
+
+    public void add(final EventSearchDocument document) {
+        Set<String> terms = new LinkedHashSet<>();
+        terms.addAll(tokenize(document.eventName()));
+        terms.addAll(tokenize(document.locationName()));
+        terms.addAll(tokenize(document.locationAddress()));
+
+        lock.writeLock().lock();
+        try {
+            if (docsByEventId.containsKey(document.eventId())) {
+                return;
+            }
+
+            int doc = documentCount++;
+            docsByEventId.put(document.eventId(), doc);
+            if (doc == eventIdsByDoc.length) {
+                eventIdsByDoc = Arrays.copyOf(eventIdsByDoc, doc * 2);
+            }
+            eventIdsByDoc[doc] = document.eventId();
+
+            for (String term : terms) {
+                postingsByTerm.computeIfAbsent(term, this::newTerm).add(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(final String query, final int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        tokens = tokens.subList(0, Math.min(tokens.size(), MAX_QUERY_TOKENS));
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = null;
+            BitSet exactMatches = null;
+            for (String token : tokens) {
+                BitSet exact = new BitSet(documentCount);
+                Postings exactPostings = postingsByTerm.get(token);
+                if (exactPostings != null) {
+                    exactPostings.addTo(exact);
+                }
+
+                BitSet tokenMatches = prefixMatches(token);
+                if (tokenMatches.isEmpty() && token.length() >= TRIGRAM) {
+                    tokenMatches = trigramMatches(token);
+                }
+
+                matches = and(matches, tokenMatches);
+                exactMatches = and(exactMatches, exact);
+                if (matches.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            List<Long> eventIds = new ArrayList<>(limit);
+            for (int doc = exactMatches.nextSetBit(0); doc >= 0 && eventIds.size() < limit;
+                doc = exactMatches.nextSetBit(doc + 1)) {
+                eventIds.add(eventIdsByDoc[doc]);
+            }
+            matches.andNot(exactMatches);
+            for (int doc = matches.nextSetBit(0); doc >= 0 && eventIds.size() < limit;
+                doc = matches.nextSetBit(doc + 1)) {
+                eventIds.add(eventIdsByDoc[doc]);
+            }
+            return eventIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(TOKEN_SEPARATOR.split(TextNormalizer.fold(text)))
+            .filter(token -> !token.isEmpty())
+            .toList();
+    }
+
+    private Postings newTerm(final String term) {
+        for (String trigram : trigrams(term)) {
+            termsByTrigram.computeIfAbsent(trigram, key -> new HashSet<>()).add(term);
+        }
+        return new Postings();
+    }
+
+    private BitSet prefixMatches(final String prefix) {
+        BitSet docs = new BitSet(documentCount);
+        postingsByTerm.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+            .values()
+            .forEach(postings -> postings.addTo(docs));
+        return docs;
+    }
+
+    private BitSet trigramMatches(final String token) {
+        Set<String> tokenTrigrams = trigrams(token);
+        Map<String, Integer> sharedByTerm = new HashMap<>();
+        for (String trigram : tokenTrigrams) {
+            for (String term : termsByTrigram.getOrDefault(trigram, Set.of())) {
+                sharedByTerm.merge(term, 1, Integer::sum);
+            }
+        }
+
+        BitSet docs = new BitSet(documentCount);
+        sharedByTerm.forEach((term, shared) -> {
+            int union = tokenTrigrams.size() + trigrams(term).size() - shared;
+            if ((double) shared / union >= MIN_TRIGRAM_SIMILARITY) {
+                postingsByTerm.get(term).addTo(docs);
+            }
+        });
+        return docs;
+    }
+
+    private static Set<String> trigrams(final String term) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM <= term.length(); i++) {
+            trigrams.add(term.substring(i, i + TRIGRAM));
+        }
+        return trigrams;
+    }
+
+    private static BitSet and(final BitSet accumulated, final BitSet next) {
+        if (accumulated == null) {
+            return next;
+        }
+        accumulated.and(next);
+        return accumulated;
+    }
+
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(final int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        private void addTo(final BitSet target) {
+            for (int i = 0; i < size; i++) {
+                target.set(docs[i]);
+            }
+        }
+    }
+}
@@ -1,35 +1,71 @@
 package ro.irisinfinity.events.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import ro.irisinfinity.events.client.UsersClient;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 import ro.irisinfinity.events.entity.Event;
 import ro.irisinfinity.events.entity.Location;
 import ro.irisinfinity.events.exception.EventAlreadyExistsException;
+import ro.irisinfinity.events.exception.EventFullException;
 import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.EventParticipant;
+import ro.irisinfinity.events.repository.EventSpecifications;
+import ro.irisinfinity.events.repository.EventVersion;
 import ro.irisinfinity.events.repository.EventsRepository;
-import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.events.repository.ParticipantProfileVersion;
+import ro.irisinfinity.platform.common.dto.events.EventLookupResultDto;
 import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
 import ro.irisinfinity.platform.common.dto.events.EventResponseDto;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.JoinAcknowledgementDto;
 import ro.irisinfinity.platform.common.dto.events.LocationDto;
-import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.dto.events.NearbyEventDto;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+import ro.irisinfinity.platform.common.util.Cursors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventsService {
 
+    static final int MAX_PARTICIPANTS_PAGE_SIZE = 200;
+    static final int MAX_EVENTS_PAGE_SIZE = 200;
+    static final int MAX_SEARCH_RESULTS = 50;
+    static final int MAX_NEARBY_RESULTS = 100;
+    static final double MAX_NEARBY_RADIUS_KM = 500;
+
+    private static final Sort EVENTS_KEYSET_ORDER = Sort.by("date", "id");
+
     private final EventsRepository eventsRepository;
-    private final LocationRepository locationRepository;
-    private final UsersClient usersClient;
-    private final ObjectMapper objectMapper;
+    private final LocationService locationService;
+    private final SeatAdmissionService seatAdmissionService;
+    private final ParticipantJoinBatcher participantJoinBatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventGeoIndex eventGeoIndex;
+    private final EventChangeFeed eventChangeFeed;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public EventResponseDto createEvent(final EventRequestDto eventRequestDto) {
@@ -38,47 +74,265 @@ public class EventsService {
                 "Event code already used: " + eventRequestDto.code());
         }
 
-        Location location = objectMapper.convertValue(eventRequestDto.location(), Location.class);
-        Location savedLocation = locationRepository.save(location);
+        Location location = locationService.resolve(eventRequestDto.location());
 
         Event event = new Event();
         event.setCode(eventRequestDto.code());
         event.setName(eventRequestDto.name());
         event.setDate(eventRequestDto.date());
         event.setOwnerUserId(eventRequestDto.ownerUserId());
-        event.setLocation(savedLocation);
+        event.setLocation(location);
+        event.setCapacity(eventRequestDto.capacity());
 
         Event saved = eventsRepository.save(event);
+        eventChangeFeed.record(EventChangeType.EVENT_CREATED, saved.getId(), null);
+        eventPublisher.publishEvent(new EventCreatedEvent(mapToSummaryDto(saved)));
         log.info("Event created: code={}", saved.getCode());
 
-        return mapToResponseDto(saved);
+        return mapToResponseDto(saved, List.of());
     }
 
     @Transactional(readOnly = true)
-    public EventResponseDto getEventByCode(final String code) {
-        Event event = eventsRepository.findByCode(code).orElseThrow(EventNotFoundException::new);
-        return mapToResponseDto(event);
+    public long getEventVersion(final String code) {
+        return eventsRepository.findVersionByCode(code).orElseThrow(EventNotFoundException::new);
     }
 
-    @Transactional
-    public EventResponseDto joinEvent(final String code, final Jwt jwt) {
+    /**
+     * Validator for {@link #getEventByCode}. Summaries render the event row only, so their tag is
+     * its version. Full responses also render participant names, which change with profile syncs
+     * and not with the event, so their tag additionally hashes each participant's profile version.
+     */
+    @Transactional(readOnly = true)
+    public String getEventTag(final String code, final boolean summary) {
+        EventVersion event = eventsRepository.findEventVersionByCode(code)
+            .orElseThrow(EventNotFoundException::new);
+        if (summary) {
+            return "summary-" + event.version();
+        }
+
+        TagDigest digest = new TagDigest();
+        try (Stream<ParticipantProfileVersion> profiles = eventsRepository
+            .streamParticipantProfileVersions(event.eventId())) {
+            profiles.forEach(profile -> digest.add(profile.externalId(), profile.version()));
+        }
+        return "full-" + event.version() + "-" + digest.toTag();
+    }
+
+    @Transactional(readOnly = true)
+    public EventResponseDto getEventByCode(final String code, final boolean summary) {
         Event event = eventsRepository.findByCode(code).orElseThrow(EventNotFoundException::new);
+        List<ParticipantDto> participants = summary
+            ? null
+            : eventsRepository.findParticipants(event.getId(), Limit.unlimited());
+        return mapToResponseDto(event, participants);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventLookupResultDto> getEventsByCodes(final List<String> codes,
+        final boolean withParticipants) {
+        Map<String, Event> eventsByCode = eventsRepository.findByCodeIn(Set.copyOf(codes))
+            .stream()
+            .collect(Collectors.toMap(Event::getCode, Function.identity()));
+
+        Map<Long, List<ParticipantDto>> participantsByEventId = !withParticipants
+            || eventsByCode.isEmpty()
+            ? Map.of()
+            : eventsRepository.findParticipantsByEventIdIn(eventsByCode.values().stream()
+                    .map(Event::getId)
+                    .toList())
+                .stream()
+                .collect(Collectors.groupingBy(EventParticipant::eventId,
+                    Collectors.mapping(EventParticipant::toParticipantDto, Collectors.toList())));
+
+        return codes.stream()
+            .map(code -> {
+                Event event = eventsByCode.get(code);
+                if (event == null) {
+                    return new EventLookupResultDto(code, false, null);
+                }
+                List<ParticipantDto> participants = withParticipants
+                    ? participantsByEventId.getOrDefault(event.getId(), List.of())
+                    : null;
+                return new EventLookupResultDto(code, true,
+                    mapToResponseDto(event, participants));
+            })
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventSummaryDto> getEvents(final LocalDate from, final LocalDate to,
+        final UUID ownerUserId, final String cursor, final int limit) {
+        return findEventsPage(Specification.allOf(
+            EventSpecifications.dateFrom(from),
+            EventSpecifications.dateTo(to),
+            EventSpecifications.ownedBy(ownerUserId)
+        ), cursor, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<EventSummaryDto> getMyEvents(final Jwt jwt, final String role,
+        final String cursor, final int limit) {
+        final UUID userId = UUID.fromString((String) jwt.getClaims().get("userId"));
+        Specification<Event> filter = switch (role.toLowerCase(Locale.ROOT)) {
+            case "participant" -> EventSpecifications.joinedBy(userId);
+            case "owner" -> EventSpecifications.ownedBy(userId);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "role must be one of: participant, owner");
+        };
+        return findEventsPage(filter, cursor, limit);
+    }
+
+    private CursorPageDto<EventSummaryDto> findEventsPage(final Specification<Event> filter,
+        final String cursor, final int limit) {
+        EventKey after = Cursors.decode(cursor, 2,
+            keys -> new EventKey(LocalDate.parse(keys[0]), Long.valueOf(keys[1])));
+        int pageSize = Math.clamp(limit, 1, MAX_EVENTS_PAGE_SIZE);
+
+        Specification<Event> specification = Specification.allOf(
+            EventSpecifications.fetchLocation(),
+            filter,
+            after == null ? null : EventSpecifications.after(after.date(), after.id())
+        );
+        List<Event> events = eventsRepository.findBy(specification,
+            query -> query.sortBy(EVENTS_KEYSET_ORDER).limit(pageSize + 1).all());
+
+        boolean hasNext = events.size() > pageSize;
+        List<Event> page = hasNext ? events.subList(0, pageSize) : events;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = page.getLast();
+            nextCursor = Cursors.encode(last.getDate(), last.getId());
+        }
+        return new CursorPageDto<>(page.stream().map(this::mapToSummaryDto).toList(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventSummaryDto> searchEvents(final String query, final int limit) {
+        List<Long> eventIds = eventSearchIndex.search(query,
+            Math.clamp(limit, 1, MAX_SEARCH_RESULTS));
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Event> eventsById = eventsRepository.findByIdIn(eventIds).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return eventIds.stream()
+            .map(eventsById::get)
+            .filter(Objects::nonNull)
+            .map(this::mapToSummaryDto)
+            .toList();
+    }
 
+    @Transactional(readOnly = true)
+    public List<NearbyEventDto> getNearbyEvents(final double latitude, final double longitude,
+        final double radiusKm, final LocalDate from, final int limit) {
+        if (Math.abs(latitude) > 90 || Math.abs(longitude) > 180) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid coordinates");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_NEARBY_RADIUS_KM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Radius must be greater than 0 and at most " + MAX_NEARBY_RADIUS_KM + " km");
+        }
+
+        List<EventGeoIndex.Match> matches = eventGeoIndex.nearest(latitude, longitude, radiusKm,
+            from, Math.clamp(limit, 1, MAX_NEARBY_RESULTS));
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Event> eventsById = eventsRepository.findByIdIn(
+                matches.stream().map(EventGeoIndex.Match::eventId).toList()).stream()
+            .collect(Collectors.toMap(Event::getId, Function.identity()));
+        return matches.stream()
+            .filter(match -> eventsById.containsKey(match.eventId()))
+            .map(match -> new NearbyEventDto(mapToSummaryDto(eventsById.get(match.eventId())),
+                match.distanceKm()))
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<ParticipantDto> getParticipants(final String code, final String cursor,
+        final int limit) {
+        Long eventId = eventsRepository.findIdByCode(code)
+            .orElseThrow(EventNotFoundException::new);
+        UUID after = Cursors.decode(cursor, 1, keys -> UUID.fromString(keys[0]));
+        int pageSize = Math.clamp(limit, 1, MAX_PARTICIPANTS_PAGE_SIZE);
+
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<ParticipantDto> participants = after == null
+            ? eventsRepository.findParticipants(eventId, fetchLimit)
+            : eventsRepository.findParticipantsAfter(eventId, after, fetchLimit);
+
+        boolean hasNext = participants.size() > pageSize;
+        List<ParticipantDto> page = hasNext ? participants.subList(0, pageSize) : participants;
+
+        String nextCursor = hasNext ? Cursors.encode(page.getLast().externalId()) : null;
+        return new CursorPageDto<>(page, nextCursor);
+    }
+
+    public JoinAcknowledgementDto joinEvent(final String code, final Jwt jwt) {
         final UUID participantUserId = UUID.fromString((String) jwt.getClaims().get("userId"));
-        event.getParticipants().add(participantUserId);
-        Event saved = eventsRepository.save(event);
+        SeatAdmissionService.Seat seat;
+        try {
+            seat = seatAdmissionService.acquire(code);
+        } catch (EventFullException e) {
+            // A retried join into an event that filled up since must still be acknowledged.
+            if (eventsRepository.existsParticipantByCode(code, participantUserId)) {
+                return new JoinAcknowledgementDto(code, participantUserId, true);
+            }
+            throw e;
+        }
+
+        boolean joined;
+        if (!seat.isLimited() && participantJoinBatcher.isEnabled()) {
+            joined = participantJoinBatcher.join(seat.eventId(), participantUserId);
+        } else {
+            try {
+                joined = Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> insertParticipant(seat, participantUserId)));
+            } catch (RuntimeException e) {
+                seat.release();
+                throw e;
+            }
+        }
 
-        log.info("Participant joined event: code={}, participant={}", code, participantUserId);
-        return mapToResponseDto(saved);
+        if (joined) {
+            log.info("Participant joined event: code={}, participant={}", code, participantUserId);
+        }
+        return new JoinAcknowledgementDto(code, participantUserId, !joined);
     }
 
-    private EventResponseDto mapToResponseDto(Event event) {
-        List<UserResponseDto> participantDtos = event.getParticipants().stream()
-            .map(usersClient::getUserByExternalId)
-            .collect(Collectors.toList());
+    private boolean insertParticipant(final SeatAdmissionService.Seat seat,
+        final UUID participantUserId) {
+        if (eventsRepository.insertParticipant(seat.eventId(), participantUserId) == 0) {
+            seat.release();
+            return false;
+        }
+        if (eventsRepository.incrementParticipantCount(seat.eventId()) == 0) {
+            seat.rejectedByDatabase();
+            throw new EventFullException();
+        }
+        eventChangeFeed.record(EventChangeType.PARTICIPANT_JOINED, seat.eventId(),
+            participantUserId);
+        return true;
+    }
 
-        Location location = event.getLocation();
-        LocationDto locationDto = new LocationDto(location.getName(), location.getAddress());
+    private EventSummaryDto mapToSummaryDto(Event event) {
+        return new EventSummaryDto(
+            event.getId(),
+            event.getCode(),
+            event.getName(),
+            event.getDate(),
+            event.getOwnerUserId(),
+            mapToLocationDto(event.getLocation()),
+            event.getCapacity(),
+            event.getParticipantCount()
+        );
+    }
+
+    private EventResponseDto mapToResponseDto(Event event, List<ParticipantDto> participantDtos) {
+        LocationDto locationDto = mapToLocationDto(event.getLocation());
 
         return new EventResponseDto(
             event.getId(),
@@ -87,7 +341,18 @@ public class EventsService {
             event.getDate(),
             event.getOwnerUserId(),
             locationDto,
+            event.getCapacity(),
+            event.getParticipantCount(),
             participantDtos
         );
     }
-}
\ No newline at end of file
+
+    private LocationDto mapToLocationDto(Location location) {
+        return new LocationDto(location.getName(), location.getAddress(), location.getLatitude(),
+            location.getLongitude());
+    }
+
+    private record EventKey(LocalDate date, Long id) {
+
+    }
+}
@@ -0,0 +1,117 @@
+package ro.irisinfinity.events.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import ro.irisinfinity.events.repository.CalendarEntry;
+
+/**
+ * Minimal RFC 5545 writer for all-day events. Lines are written as they are produced, escaped and
+ * folded at 75 octets, so a feed never exists in memory as a whole.
+ */
+final class ICalendarWriter {
+
+    private static final String CRLF = "\r\n";
+    private static final int MAX_LINE_OCTETS = 75;
+    private static final String UID_DOMAIN = "@events.irisinfinity.ro";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final DateTimeFormatter STAMP_FORMAT =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private final Writer writer;
+    private final String dtStamp;
+
+    ICalendarWriter(final OutputStream outputStream, final Instant now) {
+        this.writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+        this.dtStamp = STAMP_FORMAT.format(now);
+    }
+
+    void begin(final String calendarName) {
+        line("BEGIN:VCALENDAR");
+        line("VERSION:2.0");
+        line("PRODID:-//irisinfinity//events-service//EN");
+        line("CALSCALE:GREGORIAN");
+        line("METHOD:PUBLISH");
+        line("X-WR-CALNAME:" + escape(calendarName));
+    }
+
+    void event(final CalendarEntry entry) {
+        line("BEGIN:VEVENT");
+        line("UID:" + escape(entry.code()) + UID_DOMAIN);
+        line("DTSTAMP:" + dtStamp);
+        line("DTSTART;VALUE=DATE:" + DATE_FORMAT.format(entry.date()));
+        line("DTEND;VALUE=DATE:" + DATE_FORMAT.format(entry.date().plusDays(1)));
+        line("SUMMARY:" + escape(entry.name()));
+        line("LOCATION:" + escape(entry.locationAddress() == null
+            ? entry.locationName()
+            : entry.locationName() + ", " + entry.locationAddress()));
+        if (entry.latitude() != null && entry.longitude() != null) {
+            line("GEO:" + entry.latitude() + ";" + entry.longitude());
+        }
+        line("END:VEVENT");
+    }
+
+    void end() {
+        line("END:VCALENDAR");
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String escape(final String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ';', ',' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private void line(final String content) {
+        try {
+            int octets = 0;
+            int i = 0;
+            while (i < content.length()) {
+                int codePoint = content.codePointAt(i);
+                int width = utf8Length(codePoint);
+                if (octets + width > MAX_LINE_OCTETS) {
+                    writer.write(CRLF);
+                    writer.write(' ');
+                    octets = 1;
+                }
+                writer.write(content, i, Character.charCount(codePoint));
+                octets += width;
+                i += Character.charCount(codePoint);
+            }
+            writer.write(CRLF);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int utf8Length(final int codePoint) {
+        if (codePoint < 0x80) {
+            return 1;
+        }
+        if (codePoint < 0x800) {
+            return 2;
+        }
+        return codePoint < 0x10000 ? 3 : 4;
+    }
+}
@@ -0,0 +1,126 @@
+package ro.irisinfinity.events.service;
+
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keys locations created before {@code normalized_key} existed. The key is computed here rather
+ * than in the migration so that it is exactly {@link LocationService#normalizedKey}: SQL has no
+ * equivalent of the Unicode mark stripping it relies on. A row whose key is already taken is merged
+ * into the keyed venue, its events repointed and its coordinates kept if the venue had none.
+ * Batches lock their rows in id order, so instances starting together take turns.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationKeyBackfill {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_CONFLICTS = 3;
+
+    private static final String SELECT_UNKEYED_SQL = """
+        select id, name, address, latitude, longitude from locations
+        where normalized_key is null
+        order by id
+        limit ?
+        for update
+        """;
+    private static final String SELECT_KEYED_SQL =
+        "select id from locations where normalized_key = ?";
+    private static final String SET_KEY_SQL =
+        "update locations set normalized_key = ? where id = ?";
+    private static final String REPOINT_EVENTS_SQL =
+        "update events set location_id = ? where location_id = ?";
+    private static final String FILL_COORDINATES_SQL = """
+        update locations
+        set latitude = coalesce(latitude, ?), longitude = coalesce(longitude, ?)
+        where id = ?
+        """;
+    private static final String DELETE_LOCATION_SQL = "delete from locations where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long keyed = 0;
+        long merged = 0;
+        int conflicts = 0;
+        while (true) {
+            BatchResult batch;
+            try {
+                batch = transactionTemplate.execute(status -> backfillBatch());
+            } catch (DataIntegrityViolationException e) {
+                // A venue with the same key was created concurrently; the retry merges into it.
+                if (++conflicts > MAX_CONFLICTS) {
+                    log.warn("Location key backfill stopped, it resumes on the next start", e);
+                    break;
+                }
+                continue;
+            }
+
+            keyed += batch.keyed();
+            merged += batch.merged();
+            if (batch.keyed() + batch.merged() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (keyed + merged > 0) {
+            log.info("Location keys backfilled: keyed={}, merged={}", keyed, merged);
+        }
+    }
+
+    private BatchResult backfillBatch() {
+        List<UnkeyedLocation> locations = jdbcTemplate.query(SELECT_UNKEYED_SQL,
+            (resultSet, rowNumber) -> new UnkeyedLocation(
+                resultSet.getLong("id"),
+                resultSet.getString("name"),
+                resultSet.getString("address"),
+                resultSet.getObject("latitude", Double.class),
+                resultSet.getObject("longitude", Double.class)),
+            BATCH_SIZE);
+
+        int keyed = 0;
+        int merged = 0;
+        for (UnkeyedLocation location : locations) {
+            String key = LocationService.normalizedKey(location.name(), location.address());
+            List<Long> survivors = jdbcTemplate.queryForList(SELECT_KEYED_SQL, Long.class, key);
+            if (survivors.isEmpty()) {
+                jdbcTemplate.update(SET_KEY_SQL, key, location.id());
+                keyed++;
+                continue;
+            }
+
+            Long survivorId = survivors.getFirst();
+            jdbcTemplate.update(REPOINT_EVENTS_SQL, survivorId, location.id());
+            if (location.latitude() != null) {
+                jdbcTemplate.update(FILL_COORDINATES_SQL,
+                    new SqlParameterValue(Types.DOUBLE, location.latitude()),
+                    new SqlParameterValue(Types.DOUBLE, location.longitude()),
+                    survivorId);
+            }
+            jdbcTemplate.update(DELETE_LOCATION_SQL, location.id());
+            merged++;
+        }
+        return new BatchResult(keyed, merged);
+    }
+
+    private record UnkeyedLocation(long id, String name, String address, Double latitude,
+                                   Double longitude) {
+
+    }
+
+    private record BatchResult(int keyed, int merged) {
+
+    }
+}
@@ -0,0 +1,147 @@
+package ro.irisinfinity.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.sql.Types;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+import ro.irisinfinity.platform.common.util.TextNormalizer;
+
+/**
+ * Resolves venues to a single {@code Location} row per normalized (name, address) key. Resolved
+ * instances are cached and shared read-only; they only enter the cache once the transaction that
+ * loaded or inserted them has committed. The one change a venue ever sees is getting coordinates
+ * when it was created without them and a later request supplies them: the row is filled in, a
+ * fresh instance replaces the cached one and a {@code LOCATION_UPDATED} change is recorded for
+ * every event already held there, so every instance can add them to its geo index.
+ */
+@Service
+public class LocationService {
+
+    private static final String CACHE_NAME = "locations";
+    private static final String INSERT_LOCATION_SQL = """
+        insert into locations (id, name, address, latitude, longitude, normalized_key)
+        values (nextval('locations_seq'), ?, ?, ?, ?, ?)
+        on conflict do nothing
+        """;
+    private static final String FILL_COORDINATES_SQL = """
+        update locations
+        set latitude = ?, longitude = ?
+        where id = ? and latitude is null
+        """;
+    private static final String SELECT_EVENT_IDS_SQL = "select id from events where location_id = ?";
+    private static final String SELECT_COORDINATES_SQL =
+        "select latitude, longitude from locations where id = ?";
+
+    private final LocationRepository locationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EventChangeFeed eventChangeFeed;
+    private final Cache<String, Location> locationsByKey;
+
+    public LocationService(
+        final LocationRepository locationRepository,
+        final JdbcTemplate jdbcTemplate,
+        final EventChangeFeed eventChangeFeed,
+        final EventsProperties eventsProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.locationRepository = locationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventChangeFeed = eventChangeFeed;
+        this.locationsByKey = Caffeine.newBuilder()
+            .maximumSize(eventsProperties.getLocationsCache().getMaximumSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, locationsByKey, CACHE_NAME);
+    }
+
+    public static String normalizedKey(final String name, final String address) {
+        return TextNormalizer.fold(name) + "|" + TextNormalizer.fold(address);
+    }
+
+    @Transactional
+    public Location resolve(final LocationDto locationDto) {
+        String key = normalizedKey(locationDto.name(), locationDto.address());
+        Location location = locationsByKey.getIfPresent(key);
+        if (location != null && !lacksCoordinates(location, locationDto)) {
+            return location;
+        }
+
+        if (location == null) {
+            location = locationRepository.findByNormalizedKey(key)
+                .orElseGet(() -> insert(locationDto, key));
+        }
+        if (lacksCoordinates(location, locationDto)) {
+            location = fillCoordinates(location, locationDto);
+        }
+        cacheAfterCommit(key, location);
+        return location;
+    }
+
+    private static boolean lacksCoordinates(final Location location,
+        final LocationDto locationDto) {
+        return location.getLatitude() == null && locationDto.latitude() != null;
+    }
+
+    /**
+     * Fills in the coordinates of a venue that has none and returns a new instance with the values
+     * read back, which are the ones of a concurrent request if that one committed first.
+     */
+    private Location fillCoordinates(final Location location, final LocationDto locationDto) {
+        int updated = jdbcTemplate.update(FILL_COORDINATES_SQL,
+            new SqlParameterValue(Types.DOUBLE, locationDto.latitude()),
+            new SqlParameterValue(Types.DOUBLE, locationDto.longitude()),
+            location.getId());
+        if (updated > 0) {
+            eventChangeFeed.recordAll(EventChangeType.LOCATION_UPDATED, jdbcTemplate
+                .queryForList(SELECT_EVENT_IDS_SQL, Long.class, location.getId()).stream()
+                .map(eventId -> new EventChangeFeed.Change(eventId, null))
+                .toList());
+        }
+        return jdbcTemplate.queryForObject(SELECT_COORDINATES_SQL, (resultSet, rowNumber) -> {
+            Location filled = new Location();
+            filled.setId(location.getId());
+            filled.setName(location.getName());
+            filled.setAddress(location.getAddress());
+            filled.setNormalizedKey(location.getNormalizedKey());
+            filled.setLatitude(resultSet.getObject("latitude", Double.class));
+            filled.setLongitude(resultSet.getObject("longitude", Double.class));
+            return filled;
+        }, location.getId());
+    }
+
+    private Location insert(final LocationDto locationDto, final String key) {
+        jdbcTemplate.update(INSERT_LOCATION_SQL,
+            locationDto.name(),
+            locationDto.address(),
+            new SqlParameterValue(Types.DOUBLE, locationDto.latitude()),
+            new SqlParameterValue(Types.DOUBLE, locationDto.longitude()),
+            key);
+        return locationRepository.findByNormalizedKey(key).orElseThrow();
+    }
+
+    private void cacheAfterCommit(final String key, final Location location) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            locationsByKey.put(key, location);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                locationsByKey.put(key, location);
+            }
+        });
+    }
+}
@@ -0,0 +1,282 @@
+package ro.irisinfinity.events.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+import ro.irisinfinity.platform.common.exception.ServiceUnavailableException;
+
+/**
+ * Group-commit buffer for joins into events without a capacity. Callers are parked on a future
+ * while a single flusher thread writes the queued joins as one JDBC batch per transaction, every
+ * {@code flush-interval} or {@code max-batch-size} entries, whichever comes first. Per-row update
+ * counts of the insert batch decide who actually joined, so a batch fails when the JDBC driver
+ * reports {@code SUCCESS_NO_INFO}, as it does with {@code reWriteBatchedInserts}. Rows are written
+ * in (event id, participant) order so that concurrent batches and direct joins lock them in the
+ * same order and cannot deadlock. A caller waits at most
+ * {@code wait-timeout} for its batch and then inserts its join directly; the insert is idempotent,
+ * so it is safe even if the flusher writes the same join concurrently. Every pending join is
+ * completed, failed with the batch or on shutdown, so no caller is left parked.
+ */
+@Slf4j
+@Service
+public class ParticipantJoinBatcher {
+
+    private static final String INSERT_PARTICIPANT_SQL = """
+        insert into event_participants (event_id, participant_user_id)
+        values (?, ?)
+        on conflict do nothing
+        """;
+    private static final String INCREMENT_PARTICIPANT_COUNT_SQL = """
+        update events set participant_count = participant_count + ?, version = version + 1
+        where id = ?
+        """;
+    private static final Comparator<ParticipantKey> KEY_ORDER = Comparator
+        .comparing(ParticipantKey::eventId)
+        .thenComparing(ParticipantKey::participantUserId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EventChangeFeed eventChangeFeed;
+    private final EventsProperties.JoinBatching properties;
+    private final BlockingQueue<PendingJoin> queue;
+    private final DistributionSummary batchSize;
+    private final Timer flushLatency;
+    private final Counter rejectedJoins;
+    private final Counter directJoins;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ParticipantJoinBatcher(
+        final JdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        final EventChangeFeed eventChangeFeed,
+        final EventsProperties eventsProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventChangeFeed = eventChangeFeed;
+        this.properties = eventsProperties.getJoinBatching();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+        this.batchSize = DistributionSummary.builder("events.join.batch.size")
+            .register(meterRegistry);
+        this.flushLatency = Timer.builder("events.join.batch.flush")
+            .register(meterRegistry);
+        this.rejectedJoins = Counter.builder("events.join.batch.rejected")
+            .register(meterRegistry);
+        this.directJoins = Counter.builder("events.join.batch.timeouts")
+            .description("Joins inserted directly after waiting too long for their batch")
+            .register(meterRegistry);
+        meterRegistry.gauge("events.join.batch.queue.depth", queue, BlockingQueue::size);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform()
+            .name("participant-join-batcher")
+            .daemon()
+            .start(this::flushLoop);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (flusher != null) {
+            flusher.join();
+        }
+
+        // Joins offered while the flusher was exiting would otherwise never be completed.
+        List<PendingJoin> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        leftovers.forEach(pendingJoin -> pendingJoin.joined().completeExceptionally(
+            new ServiceUnavailableException("Join batching stopped, retry later")));
+    }
+
+    public boolean join(final Long eventId, final UUID participantUserId) {
+        PendingJoin pendingJoin = new PendingJoin(new ParticipantKey(eventId, participantUserId),
+            new CompletableFuture<>());
+        if (!running || !queue.offer(pendingJoin)) {
+            rejectedJoins.increment();
+            throw new ServiceUnavailableException("Too many pending joins, retry later");
+        }
+        if (!running && queue.remove(pendingJoin)) {
+            // stop() began after the check above and may already have drained the queue.
+            rejectedJoins.increment();
+            throw new ServiceUnavailableException("Join batching stopped, retry later");
+        }
+
+        try {
+            return pendingJoin.joined().get(properties.getWaitTimeout().toNanos(),
+                TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return joinDirectly(pendingJoin);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Participant join failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a participant join", e);
+        }
+    }
+
+    /**
+     * Inserts a join whose batch did not complete in time. If the flusher already took it, both
+     * writes may run; the caller joined if either of them inserted the row.
+     */
+    private boolean joinDirectly(final PendingJoin pendingJoin) {
+        directJoins.increment();
+        boolean dequeued = queue.remove(pendingJoin);
+        log.warn("Participant join waited over {}, inserting directly: event={}, batched={}",
+            properties.getWaitTimeout(), pendingJoin.key().eventId(), !dequeued);
+
+        Map<ParticipantKey, Boolean> inserted = transactionTemplate.execute(
+            status -> write(List.of(pendingJoin)));
+        CompletableFuture<Boolean> batched = pendingJoin.joined();
+        return Boolean.TRUE.equals(inserted.get(pendingJoin.key()))
+            || batched.state() == Future.State.SUCCESS && batched.resultNow();
+    }
+
+    private void flushLoop() {
+        List<PendingJoin> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(final List<PendingJoin> batch) throws InterruptedException {
+        long intervalNanos = properties.getFlushInterval().toNanos();
+        PendingJoin first = queue.poll(intervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+
+        batch.add(first);
+        long deadline = System.nanoTime() + intervalNanos;
+        int maxBatchSize = properties.getMaxBatchSize();
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+
+            PendingJoin next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(final List<PendingJoin> batch) {
+        batchSize.record(batch.size());
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<ParticipantKey, Boolean> inserted = transactionTemplate.execute(
+                status -> write(batch));
+            for (PendingJoin pendingJoin : batch) {
+                pendingJoin.joined().complete(
+                    Boolean.TRUE.equals(inserted.put(pendingJoin.key(), false)));
+            }
+        } catch (Throwable e) {
+            // Errors too: the flusher must survive and its callers must not wait for nothing.
+            log.warn("Failed to flush {} participant joins", batch.size(), e);
+            batch.forEach(pendingJoin -> pendingJoin.joined().completeExceptionally(e));
+        } finally {
+            sample.stop(flushLatency);
+        }
+    }
+
+    private Map<ParticipantKey, Boolean> write(final List<PendingJoin> batch) {
+        Map<ParticipantKey, Boolean> inserted = new LinkedHashMap<>();
+        batch.forEach(pendingJoin -> inserted.put(pendingJoin.key(), false));
+
+        List<ParticipantKey> keys = inserted.keySet().stream()
+            .sorted(KEY_ORDER)
+            .toList();
+        int[] rowCounts = jdbcTemplate.batchUpdate(INSERT_PARTICIPANT_SQL, keys.stream()
+            .map(key -> new Object[]{key.eventId(), key.participantUserId()})
+            .toList());
+
+        Map<Long, Integer> joinedPerEvent = new TreeMap<>();
+        List<EventChangeFeed.Change> changes = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (rowCounts[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException(
+                    "JDBC driver did not report per-row update counts for participant joins");
+            }
+            if (rowCounts[i] > 0) {
+                ParticipantKey key = keys.get(i);
+                inserted.put(key, true);
+                joinedPerEvent.merge(key.eventId(), 1, Integer::sum);
+                changes.add(new EventChangeFeed.Change(key.eventId(), key.participantUserId()));
+            }
+        }
+
+        if (!joinedPerEvent.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREMENT_PARTICIPANT_COUNT_SQL, joinedPerEvent.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList());
+        }
+        eventChangeFeed.recordAll(EventChangeType.PARTICIPANT_JOINED, changes);
+        return inserted;
+    }
+
+    private record ParticipantKey(Long eventId, UUID participantUserId) {
+
+    }
+
+    private record PendingJoin(ParticipantKey key, CompletableFuture<Boolean> joined) {
+
+    }
+}
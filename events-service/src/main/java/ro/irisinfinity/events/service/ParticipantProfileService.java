@@ -0,0 +1,111 @@
+package ro.irisinfinity.events.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+
+/**
+ * Applies profile changes pushed by users-service to the local participant read model, so that
+ * event reads never have to call users-service. Updates only win over an older user version, which
+ * makes redelivered or reordered pushes harmless. Deletions leave a tombstone that no later push
+ * updates, so a profile pushed before the deletion but delivered after it is dropped too. Turning
+ * a row into a tombstone bumps its version, so validators hashing profile versions change.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ParticipantProfileService {
+
+    private static final String UPDATE_PROFILE_SQL = """
+        update participant_profiles set first_name = ?, last_name = ?, user_version = ?
+        where external_id = ? and user_version < ? and not deleted
+        """;
+
+    private static final String INSERT_PROFILE_SQL = """
+        insert into participant_profiles (external_id, first_name, last_name, user_version)
+        values (?, ?, ?, ?)
+        on conflict do nothing
+        """;
+
+    private static final String DELETE_PROFILE_SQL = """
+        update participant_profiles
+        set first_name = null, last_name = null, user_version = user_version + 1, deleted = true
+        where external_id = ? and not deleted
+        """;
+
+    private static final String INSERT_TOMBSTONE_SQL = """
+        insert into participant_profiles (external_id, user_version, deleted)
+        values (?, 0, true)
+        on conflict do nothing
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void sync(final ParticipantProfilesSyncDto sync) {
+        List<ParticipantProfileDto> profiles = sync.profiles();
+        if (!profiles.isEmpty()) {
+            int[] updated = jdbcTemplate.batchUpdate(UPDATE_PROFILE_SQL, profiles.stream()
+                .map(profile -> new Object[]{profile.firstName(), profile.lastName(),
+                    profile.version(), profile.externalId(), profile.version()})
+                .toList());
+
+            List<Object[]> inserts = new ArrayList<>();
+            for (int i = 0; i < profiles.size(); i++) {
+                if (updated[i] == 0) {
+                    ParticipantProfileDto profile = profiles.get(i);
+                    inserts.add(new Object[]{profile.externalId(), profile.firstName(),
+                        profile.lastName(), profile.version()});
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_PROFILE_SQL, inserts);
+            }
+        }
+
+        if (!sync.deletedExternalIds().isEmpty()) {
+            delete(List.copyOf(sync.deletedExternalIds()));
+        }
+
+        log.debug("Participant profiles synced: profiles={}, deleted={}", profiles.size(),
+            sync.deletedExternalIds().size());
+    }
+
+    /**
+     * Tombstones existing rows and inserts tombstones for users never seen. An insert that lost
+     * to a concurrent push of a live profile is retried as an update.
+     */
+    private void delete(final List<UUID> externalIds) {
+        int[] tombstoned = jdbcTemplate.batchUpdate(DELETE_PROFILE_SQL, externalIds.stream()
+            .map(externalId -> new Object[]{externalId})
+            .toList());
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < externalIds.size(); i++) {
+            if (tombstoned[i] == 0) {
+                inserts.add(new Object[]{externalIds.get(i)});
+            }
+        }
+        if (inserts.isEmpty()) {
+            return;
+        }
+
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_TOMBSTONE_SQL, inserts);
+        List<Object[]> retries = new ArrayList<>();
+        for (int i = 0; i < inserts.size(); i++) {
+            if (inserted[i] == 0) {
+                retries.add(inserts.get(i));
+            }
+        }
+        if (!retries.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_PROFILE_SQL, retries);
+        }
+    }
+}
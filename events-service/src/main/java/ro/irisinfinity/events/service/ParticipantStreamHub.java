@@ -0,0 +1,291 @@
+package ro.irisinfinity.events.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.EventCapacity;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+import ro.irisinfinity.platform.common.dto.events.ParticipantsUpdateDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+import ro.irisinfinity.platform.common.exception.ServiceUnavailableException;
+
+/**
+ * Fan-out of participant joins to the SSE subscribers connected to this instance. Joins are taken
+ * from the tailed event change feed, so subscribers see joins handled by any instance. They are
+ * only recorded for events that have subscribers here, and a burst of joins is coalesced into one
+ * update per event every {@code flush-interval}, carrying the current participant count read once
+ * for all subscribers. Each subscriber owns a bounded buffer drained by its own virtual thread;
+ * when a slow client lets it fill up, the oldest update is dropped, which is safe because every
+ * update carries the total. A subscriber that has received nothing for
+ * {@code heartbeat-interval} is sent an SSE comment, so idle proxies keep the connection open
+ * and dead clients are noticed.
+ */
+@Slf4j
+@Service
+public class ParticipantStreamHub {
+
+    static final String EVENT_NAME = "participants";
+    static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final EventsRepository eventsRepository;
+    private final ObjectWriter objectWriter;
+    private final EventsProperties.Streams properties;
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedUpdates;
+    private final Counter rejectedSubscribers;
+
+    private ScheduledExecutorService flusher;
+
+    public ParticipantStreamHub(
+        final EventsRepository eventsRepository,
+        final ObjectMapper objectMapper,
+        final EventsProperties eventsProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.eventsRepository = eventsRepository;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.properties = eventsProperties.getStreams();
+
+        this.droppedUpdates = Counter.builder("events.stream.dropped")
+            .register(meterRegistry);
+        this.rejectedSubscribers = Counter.builder("events.stream.rejected")
+            .register(meterRegistry);
+        meterRegistry.gauge("events.stream.subscribers", subscriberCount);
+    }
+
+    @PostConstruct
+    void start() {
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("participant-stream-flusher")
+            .daemon()
+            .factory());
+        flusher.scheduleWithFixedDelay(this::flush, intervalMillis, intervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        topics.values().forEach(topic -> topic.subscribers.forEach(Subscription::close));
+    }
+
+    public SseEmitter open(final String code) {
+        eventsRepository.findIdByCode(code).orElseThrow(EventNotFoundException::new);
+
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscription subscription = subscribe(code, new Sink() {
+            @Override
+            public void send(final ParticipantsUpdateDto update) throws IOException {
+                emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .data(objectWriter.writeValueAsString(update), MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void heartbeat() throws IOException {
+                emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        return emitter;
+    }
+
+    public Subscription subscribe(final String code, final Sink sink) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            rejectedSubscribers.increment();
+            throw new ServiceUnavailableException("Too many event streams open, retry later");
+        }
+
+        Subscription subscription = new Subscription(code, sink, properties.getBufferSize());
+        topics.compute(code, (key, topic) -> {
+            Topic target = topic == null ? new Topic() : topic;
+            target.subscribers.add(subscription);
+            return target;
+        });
+        subscription.sender = Thread.ofVirtual()
+            .name("participant-stream-" + code)
+            .start(subscription::drain);
+        return subscription;
+    }
+
+    @EventListener
+    public void onChangesTailed(final EventChangesTailedEvent tailed) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        for (EventChangeDto change : tailed.changes()) {
+            if (change.type() != EventChangeType.PARTICIPANT_JOINED) {
+                continue;
+            }
+            Topic topic = topics.get(change.eventCode());
+            if (topic != null) {
+                topic.record(change.participantUserId(), properties.getMaxJoinedPerMessage());
+            }
+        }
+    }
+
+    void flush() {
+        topics.forEach((code, topic) -> {
+            try {
+                Pending pending = topic.drain();
+                if (pending == null) {
+                    return;
+                }
+
+                long participantCount = eventsRepository.findCapacityByCode(code)
+                    .map(EventCapacity::participantCount)
+                    .orElse(0L);
+                ParticipantsUpdateDto update = new ParticipantsUpdateDto(code, participantCount,
+                    pending.joinedCount(), pending.joined());
+                topic.subscribers.forEach(subscription -> subscription.offer(update));
+            } catch (RuntimeException e) {
+                log.warn("Participant stream flush failed: code={}", code, e);
+            }
+        });
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void unsubscribe(final Subscription subscription) {
+        topics.computeIfPresent(subscription.code, (key, topic) -> {
+            topic.subscribers.remove(subscription);
+            return topic.subscribers.isEmpty() ? null : topic;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    public interface Sink {
+
+        void send(ParticipantsUpdateDto update) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    public final class Subscription {
+
+        private final String code;
+        private final Sink sink;
+        private final BlockingQueue<ParticipantsUpdateDto> buffer;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Thread sender;
+
+        private Subscription(final String code, final Sink sink, final int bufferSize) {
+            this.code = code;
+            this.sink = sink;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+
+            unsubscribe(this);
+            if (sender != null && sender != Thread.currentThread()) {
+                sender.interrupt();
+            }
+            sink.close();
+        }
+
+        private void offer(final ParticipantsUpdateDto update) {
+            while (!buffer.offer(update)) {
+                if (buffer.poll() != null) {
+                    droppedUpdates.increment();
+                }
+            }
+        }
+
+        private void drain() {
+            long heartbeatMillis = properties.getHeartbeatInterval().toMillis();
+            try {
+                while (!closed.get()) {
+                    ParticipantsUpdateDto update = buffer.poll(heartbeatMillis,
+                        TimeUnit.MILLISECONDS);
+                    if (update == null) {
+                        sink.heartbeat();
+                    } else {
+                        sink.send(update);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                log.debug("Participant stream closed: code={}", code, e);
+            } finally {
+                close();
+            }
+        }
+    }
+
+    private static final class Topic {
+
+        private final Set<Subscription> subscribers = ConcurrentHashMap.newKeySet();
+        private List<UUID> joined = new ArrayList<>();
+        private int joinedCount;
+
+        private synchronized void record(final UUID participantUserId, final int maxJoined) {
+            joinedCount++;
+            if (joined.size() < maxJoined) {
+                joined.add(participantUserId);
+            }
+        }
+
+        private synchronized Pending drain() {
+            if (joinedCount == 0) {
+                return null;
+            }
+
+            Pending pending = new Pending(joinedCount, List.copyOf(joined));
+            joined = new ArrayList<>();
+            joinedCount = 0;
+            return pending;
+        }
+    }
+
+    private record Pending(int joinedCount, List<UUID> joined) {
+
+    }
+}
@@ -0,0 +1,140 @@
+package ro.irisinfinity.events.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Service;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.exception.EventFullException;
+import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.EventCapacity;
+import ro.irisinfinity.events.repository.EventsRepository;
+
+/**
+ * Hands out seats for capacity-limited events from an in-memory counter so that joins into a
+ * full event are rejected without a database round trip. The counter is loaded from the database
+ * and only ever over-estimates the remaining seats, so the conditional update in
+ * {@link EventsRepository#incrementParticipantCount(Long)} stays the authority on overselling.
+ */
+@Service
+public class SeatAdmissionService {
+
+    private final EventsRepository eventsRepository;
+    private final Cache<String, Seats> seatsByCode;
+    private final Counter admissionRejections;
+    private final Counter databaseRejections;
+
+    public SeatAdmissionService(
+        final EventsRepository eventsRepository,
+        final EventsProperties eventsProperties,
+        final MeterRegistry meterRegistry
+    ) {
+        this.eventsRepository = eventsRepository;
+
+        EventsProperties.Admission admissionProperties = eventsProperties.getAdmission();
+        this.seatsByCode = Caffeine.newBuilder()
+            .maximumSize(admissionProperties.getMaximumSize())
+            .expireAfterWrite(admissionProperties.getTtl())
+            .build();
+        this.admissionRejections = Counter.builder("events.join.rejected")
+            .tag("stage", "admission")
+            .register(meterRegistry);
+        this.databaseRejections = Counter.builder("events.join.rejected")
+            .tag("stage", "database")
+            .register(meterRegistry);
+    }
+
+    public Seat acquire(final String code) {
+        Seats seats = seatsByCode.get(code, this::loadSeats);
+        if (!seats.tryAcquire()) {
+            admissionRejections.increment();
+            throw new EventFullException();
+        }
+
+        return new Seat(seats);
+    }
+
+    private Seats loadSeats(final String code) {
+        EventCapacity eventCapacity = eventsRepository.findCapacityByCode(code)
+            .orElseThrow(EventNotFoundException::new);
+        if (eventCapacity.capacity() == null) {
+            return new Seats(eventCapacity.id(), null);
+        }
+
+        long remaining = Math.max(0, eventCapacity.capacity() - eventCapacity.participantCount());
+        return new Seats(eventCapacity.id(), new AtomicLong(remaining));
+    }
+
+    public final class Seat {
+
+        private final Seats seats;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Seat(final Seats seats) {
+            this.seats = seats;
+        }
+
+        public Long eventId() {
+            return seats.eventId;
+        }
+
+        public boolean isLimited() {
+            return seats.remaining != null;
+        }
+
+        public void release() {
+            if (settled.compareAndSet(false, true)) {
+                seats.release();
+            }
+        }
+
+        public void rejectedByDatabase() {
+            settled.set(true);
+            seats.markFull();
+            databaseRejections.increment();
+        }
+    }
+
+    private static final class Seats {
+
+        private static final long FULL = -1;
+
+        private final Long eventId;
+        private final AtomicLong remaining;
+
+        private Seats(final Long eventId, final AtomicLong remaining) {
+            this.eventId = eventId;
+            this.remaining = remaining;
+        }
+
+        private boolean tryAcquire() {
+            if (remaining == null) {
+                return true;
+            }
+
+            long current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+
+        private void release() {
+            if (remaining != null) {
+                remaining.updateAndGet(current -> current == FULL ? current : current + 1);
+            }
+        }
+
+        private void markFull() {
+            if (remaining != null) {
+                remaining.set(FULL);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package ro.irisinfinity.events.service;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Order-sensitive SHA-256 over fixed-width (key, version) pairs, truncated to a short hex string
+ * for use as an entity tag.
+ */
+final class TagDigest {
+
+    private static final int TAG_BYTES = 16;
+
+    private final MessageDigest digest = sha256();
+    private final ByteBuffer pair = ByteBuffer.allocate(3 * Long.BYTES);
+
+    TagDigest add(final long key, final long version) {
+        pair.clear();
+        pair.putLong(key).putLong(version);
+        digest.update(pair.array(), 0, pair.position());
+        return this;
+    }
+
+    TagDigest add(final UUID key, final long version) {
+        pair.clear();
+        pair.putLong(key.getMostSignificantBits()).putLong(key.getLeastSignificantBits())
+            .putLong(version);
+        digest.update(pair.array(), 0, pair.position());
+        return this;
+    }
+
+    String toTag() {
+        return HexFormat.of().formatHex(digest.digest(), 0, TAG_BYTES);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
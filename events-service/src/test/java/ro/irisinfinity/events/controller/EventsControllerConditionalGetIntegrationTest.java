@@ -0,0 +1,169 @@
+package ro.irisinfinity.events.controller;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.events.service.EventsService;
+import ro.irisinfinity.events.service.ParticipantProfileService;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Transactional
+@ActiveProfiles("test")
+class EventsControllerConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private ParticipantProfileService participantProfileService;
+
+    @SpyBean
+    private EventsRepository eventsRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventsService.createEvent(new EventRequestDto(
+            "ETAG25",
+            "Cacheable",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(1),
+            new LocationDto("Hall", "Cluj"),
+            null
+        ));
+        Mockito.clearInvocations(eventsRepository);
+    }
+
+    @Test
+    void getEvent_withMatchingETag_shouldAnswerNotModifiedFromVersionsOnly() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/events/ETAG25"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Mockito.clearInvocations(eventsRepository);
+
+        mockMvc.perform(get("/api/v1/events/ETAG25").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+
+        verify(eventsRepository, times(1)).findEventVersionByCode("ETAG25");
+        verify(eventsRepository, never()).findByCode(anyString());
+        verify(eventsRepository, never()).findParticipants(anyLong(), any());
+    }
+
+    @Test
+    void getEvent_summaryAndFull_shouldNotShareETag() throws Exception {
+        String fullETag = mockMvc.perform(get("/api/v1/events/ETAG25"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/events/ETAG25?summary=true")
+                .header(HttpHeaders.IF_NONE_MATCH, fullETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(fullETag)));
+    }
+
+    @Test
+    void getEvent_afterParticipantProfileSync_shouldRevalidateFullButNotSummary()
+        throws Exception {
+        eventsService.createEvent(new EventRequestDto(
+            "ETAG26",
+            "Renamed participants",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(1),
+            new LocationDto("Hall", "Cluj"),
+            null
+        ));
+        UUID participantUserId = UUID.randomUUID();
+        eventsService.joinEvent("ETAG26", Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build());
+        participantProfileService.sync(new ParticipantProfilesSyncDto(
+            List.of(new ParticipantProfileDto(participantUserId, "Ana", "Pop", 1)), Set.of()));
+
+        String fullETag = mockMvc.perform(get("/api/v1/events/ETAG26"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String summaryETag = mockMvc.perform(get("/api/v1/events/ETAG26?summary=true"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        participantProfileService.sync(new ParticipantProfilesSyncDto(
+            List.of(new ParticipantProfileDto(participantUserId, "Ana", "Ionescu", 2)),
+            Set.of()));
+
+        mockMvc.perform(get("/api/v1/events/ETAG26").header(HttpHeaders.IF_NONE_MATCH, fullETag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(fullETag)))
+            .andExpect(jsonPath("$.participants[0].lastName").value("Ionescu"));
+        mockMvc.perform(get("/api/v1/events/ETAG26?summary=true")
+                .header(HttpHeaders.IF_NONE_MATCH, summaryETag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getEvent_afterJoin_shouldRevalidateWithNewETag() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/events/ETAG25"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Jwt jwt = Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", UUID.randomUUID().toString())
+            .build();
+        eventsService.joinEvent("ETAG25", jwt);
+
+        mockMvc.perform(get("/api/v1/events/ETAG25?summary=true")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void getEventCalendar_withMatchingETag_shouldAnswerNotModifiedWithoutRendering()
+        throws Exception {
+        String eTag = "\"" + eventsService.getEventVersion("ETAG25") + "\"";
+        Mockito.clearInvocations(eventsRepository);
+
+        mockMvc.perform(get("/api/v1/events/ETAG25.ics").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(request().asyncNotStarted());
+
+        verify(eventsRepository, times(1)).findVersionByCode("ETAG25");
+        verify(eventsRepository, never()).findCalendarEntryByCode(anyString());
+    }
+}
@@ -0,0 +1,51 @@
+package ro.irisinfinity.events.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import ro.irisinfinity.events.exception.EventFullException;
+import ro.irisinfinity.events.service.EventsService;
+import ro.irisinfinity.platform.common.exception.ServiceUnavailableException;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class EventsControllerJoinIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private EventsService eventsService;
+
+    @Test
+    void joinEvent_whenFull_shouldRespondConflict() throws Exception {
+        doThrow(new EventFullException()).when(eventsService).joinEvent(eq("FULL01"), any());
+
+        mockMvc.perform(post("/api/v1/events/FULL01/join"))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.error").value("Event is full"))
+            .andExpect(jsonPath("$.path").value("/api/v1/events/FULL01/join"));
+    }
+
+    @Test
+    void joinEvent_whenJoinsAreShed_shouldRespondServiceUnavailable() throws Exception {
+        doThrow(new ServiceUnavailableException("Too many pending joins, retry later"))
+            .when(eventsService).joinEvent(eq("BUSY01"), any());
+
+        mockMvc.perform(post("/api/v1/events/BUSY01/join"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(jsonPath("$.error").value("Too many pending joins, retry later"));
+    }
+}
@@ -0,0 +1,86 @@
+package ro.irisinfinity.events.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import feign.RequestTemplate;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ro.irisinfinity.platform.common.config.SecurityProperties;
+import ro.irisinfinity.platform.common.config.ServiceTokenRequestInterceptor;
+
+@SpringBootTest(properties = {
+    "spring.autoconfigure.exclude=",
+    "security.jwt.secret=" + ParticipantProfilesInternalControllerSecurityIntegrationTest.SECRET
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ParticipantProfilesInternalControllerSecurityIntegrationTest {
+
+    static final String SECRET = "participant-profiles-test-secret-0123456789";
+
+    private static final String SYNC_BODY = """
+        {"profiles": [], "deletedExternalIds": []}
+        """;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void syncProfiles_withServiceToken_shouldBeAccepted() throws Exception {
+        SecurityProperties.Jwt jwt = new SecurityProperties.Jwt();
+        jwt.setSecret(SECRET);
+        RequestTemplate template = new RequestTemplate();
+        new ServiceTokenRequestInterceptor(jwt, "users-service", Clock.systemUTC())
+            .apply(template);
+        String authorization = template.headers().get(HttpHeaders.AUTHORIZATION).iterator()
+            .next();
+
+        mockMvc.perform(sync().header(HttpHeaders.AUTHORIZATION, authorization))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void syncProfiles_withUserToken_shouldBeForbidden() throws Exception {
+        Instant now = Instant.now();
+        String token = Jwts.builder()
+            .issuer("auth-service")
+            .audience().add("irisinfinity").and()
+            .subject("user@example.com")
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(5, ChronoUnit.MINUTES)))
+            .claim("roles", List.of("USER", "ADMIN"))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(UTF_8)), Jwts.SIG.HS256)
+            .compact();
+
+        mockMvc.perform(sync().header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void syncProfiles_withoutToken_shouldBeUnauthorized() throws Exception {
+        mockMvc.perform(sync())
+            .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletRequestBuilder sync() {
+        return put("/api/v1/internal/participant-profiles")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(SYNC_BODY);
+    }
+}
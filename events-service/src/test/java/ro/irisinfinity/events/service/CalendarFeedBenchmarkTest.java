@@ -0,0 +1,122 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.events.repository.LocationRepository;
+
+/**
+ * Measures per-participant iCalendar feed generation for users with thousands of joined events,
+ * and the cost of the validator query that answers unchanged feeds. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class CalendarFeedBenchmarkTest {
+
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int WARMUP_FEEDS = 5;
+    private static final int MEASURED_FEEDS = 20;
+
+    private static long nextSeedId = 50_000_000L;
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "feed of {0} joined events")
+    @ValueSource(ints = {1_000, 5_000, 10_000})
+    void writeParticipantFeed(final int joinedEvents) {
+        UUID participant = UUID.randomUUID();
+        seedJoinedEvents(participant, joinedEvents);
+
+        CountingOutputStream sink = new CountingOutputStream();
+        for (int i = 0; i < WARMUP_FEEDS; i++) {
+            calendarFeedService.writeParticipantFeed(participant, sink);
+        }
+
+        sink.bytes = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_FEEDS; i++) {
+            calendarFeedService.writeParticipantFeed(participant, sink);
+        }
+        long feedNanos = (System.nanoTime() - started) / MEASURED_FEEDS;
+
+        started = System.nanoTime();
+        for (int i = 0; i < MEASURED_FEEDS; i++) {
+            calendarFeedService.getParticipantFeedTag(participant);
+        }
+        long tagNanos = (System.nanoTime() - started) / MEASURED_FEEDS;
+
+        log.info("calendar feed benchmark: events={}, feed={} ms ({} KB), validator={} us",
+            joinedEvents, feedNanos / 1_000_000, sink.bytes / MEASURED_FEEDS / 1024,
+            tagNanos / 1_000);
+        assertTrue(sink.bytes > 0);
+    }
+
+    private void seedJoinedEvents(final UUID participant, final int count) {
+        Location location = new Location();
+        location.setName("Calendar Hall " + participant);
+        location.setAddress("Bucharest");
+        location.setNormalizedKey("calendar hall " + participant + "|bucharest");
+        Long locationId = locationRepository.save(location).getId();
+
+        long firstId = nextSeedId;
+        nextSeedId += count;
+        List<Object[]> events = new ArrayList<>(SEED_BATCH_SIZE);
+        List<Object[]> participants = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            events.add(new Object[]{id, "CAL-" + id, "Calendar event " + i,
+                LocalDate.now().plusDays(i % 730), UUID.randomUUID(), locationId});
+            participants.add(new Object[]{id, participant});
+            if (events.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate("""
+                    insert into events (id, code, name, date, owner_user_id, location_id,
+                        participant_count, version)
+                    values (?, ?, ?, ?, ?, ?, 1, 1)
+                    """, events);
+                jdbcTemplate.batchUpdate(
+                    "insert into event_participants (event_id, participant_user_id) values (?, ?)",
+                    participants);
+                events.clear();
+                participants.clear();
+            }
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(final int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            bytes += len;
+        }
+    }
+}
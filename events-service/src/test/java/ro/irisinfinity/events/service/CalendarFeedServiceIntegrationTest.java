@@ -0,0 +1,135 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class CalendarFeedServiceIntegrationTest {
+
+    @Autowired
+    private CalendarFeedService calendarFeedService;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writeEventFeed_shouldEscapeAndFoldLines() {
+        String name = "Jazz, blues; and more \\ a very long evening of music that keeps going on";
+        createEvent("ICS001", name, LocalDate.of(2099, 6, 1),
+            new LocationDto("Opera", "Piața Ovidiu 1", 44.17, 28.65));
+
+        List<String> lines = lines(out -> calendarFeedService.writeEventFeed("ICS001", out));
+
+        assertEquals("BEGIN:VCALENDAR", lines.getFirst());
+        assertEquals("END:VCALENDAR", lines.getLast());
+        assertTrue(lines.contains("UID:ICS001@events.irisinfinity.ro"));
+        assertTrue(lines.contains("DTSTART;VALUE=DATE:20990601"));
+        assertTrue(lines.contains("DTEND;VALUE=DATE:20990602"));
+        assertTrue(lines.contains("LOCATION:Opera\\, Piața Ovidiu 1"));
+        assertTrue(lines.contains("GEO:44.17;28.65"));
+        assertTrue(lines.stream()
+            .allMatch(line -> line.getBytes(StandardCharsets.UTF_8).length <= 75));
+
+        String unfolded = String.join("\r\n", lines).replace("\r\n ", "");
+        assertTrue(unfolded.contains("SUMMARY:Jazz\\, blues\\; and more \\\\ a very long evening"
+            + " of music that keeps going on"));
+    }
+
+    @Test
+    void writeEventFeed_unknownCode_shouldThrow() {
+        assertThrows(EventNotFoundException.class,
+            () -> calendarFeedService.writeEventFeed("NOPE", new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void writeParticipantFeed_shouldListJoinedEventsByDate() {
+        UUID participant = UUID.randomUUID();
+        String emptyTag = calendarFeedService.getParticipantFeedTag(participant);
+
+        createEvent("ICS003", "Later", LocalDate.of(2099, 9, 1), new LocationDto("Hall", "Iasi"));
+        createEvent("ICS002", "Sooner", LocalDate.of(2099, 3, 1), new LocationDto("Hall", "Iasi"));
+        createEvent("ICS004", "Not joined", LocalDate.of(2099, 4, 1),
+            new LocationDto("Hall", "Iasi"));
+        eventsService.joinEvent("ICS003", jwt(participant));
+        eventsService.joinEvent("ICS002", jwt(participant));
+
+        List<String> uids = lines(out -> calendarFeedService.writeParticipantFeed(participant, out))
+            .stream()
+            .filter(line -> line.startsWith("UID:"))
+            .toList();
+
+        assertEquals(List.of("UID:ICS002@events.irisinfinity.ro",
+            "UID:ICS003@events.irisinfinity.ro"), uids);
+        assertNotEquals(emptyTag, calendarFeedService.getParticipantFeedTag(participant));
+    }
+
+    @Test
+    void getParticipantFeedTag_shouldChangeWhenMembershipChangesAtSameCountAndVersions() {
+        UUID participant = UUID.randomUUID();
+        createEvent("ICS005", "First", LocalDate.of(2099, 5, 1), new LocationDto("Hall", "Iasi"));
+        createEvent("ICS006", "Second", LocalDate.of(2099, 5, 2), new LocationDto("Hall", "Iasi"));
+        eventsService.joinEvent("ICS005", jwt(participant));
+        eventsRepository.flush();
+        String tag = calendarFeedService.getParticipantFeedTag(participant);
+        assertEquals(tag, calendarFeedService.getParticipantFeedTag(participant));
+
+        Long first = eventsRepository.findIdByCode("ICS005").orElseThrow();
+        Long second = eventsRepository.findIdByCode("ICS006").orElseThrow();
+        jdbcTemplate.update("delete from event_participants where event_id = ?", first);
+        jdbcTemplate.update(
+            "insert into event_participants (event_id, participant_user_id) values (?, ?)",
+            second, participant);
+        jdbcTemplate.update("update events set version = (select version from events where id = ?)"
+            + " where id = ?", first, second);
+
+        assertNotEquals(tag, calendarFeedService.getParticipantFeedTag(participant));
+    }
+
+    private List<String> lines(final Consumer<ByteArrayOutputStream> feed) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        feed.accept(out);
+        return Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+    }
+
+    private void createEvent(final String code, final String name, final LocalDate date,
+        final LocationDto location) {
+        eventsService.createEvent(new EventRequestDto(code, name, UUID.randomUUID(), date,
+            location, null));
+    }
+
+    private Jwt jwt(final UUID participantUserId) {
+        return Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build();
+    }
+}
@@ -0,0 +1,186 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.async.DeferredResult;
+import ro.irisinfinity.events.entity.EventChange;
+import ro.irisinfinity.events.repository.EventChangesRepository;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+import ro.irisinfinity.platform.common.dto.events.EventChangesPageDto;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.EventResponseDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class EventChangeFeedIntegrationTest {
+
+    @Autowired
+    private EventChangeFeed eventChangeFeed;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventChangesRepository eventChangesRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createAndJoin_shouldRecordChangesReadableInOrder() {
+        long start = eventChangeFeed.read(0, EventChangeFeed.MAX_CHANGES_PAGE_SIZE).next();
+        EventResponseDto event = createEvent("FEED25");
+        UUID participant = UUID.randomUUID();
+        eventsService.joinEvent("FEED25", jwt(participant));
+        eventChangeFeed.stamp();
+
+        EventChangesPageDto page = eventChangeFeed.read(start, 10);
+        assertEquals(List.of(EventChangeType.EVENT_CREATED, EventChangeType.PARTICIPANT_JOINED),
+            page.changes().stream().map(EventChangeDto::type).toList());
+        assertEquals(event.id(), page.changes().getFirst().eventId());
+        assertEquals("FEED25", page.changes().getLast().eventCode());
+        assertEquals(participant, page.changes().getLast().participantUserId());
+
+        EventChangesPageDto resumed = eventChangeFeed.read(page.changes().getFirst().seq(), 10);
+        assertEquals(1, resumed.changes().size());
+        assertEquals(page.next(), resumed.next());
+        assertTrue(eventChangeFeed.read(page.next(), 10).changes().isEmpty());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void record_whileAnotherWriterIsOpen_shouldNotWaitAndStampInCommitOrder() throws Exception {
+        EventResponseDto event = createEvent("ORDER25");
+        eventChangeFeed.stamp();
+        long start = eventChangeFeed.read(0, EventChangeFeed.MAX_CHANGES_PAGE_SIZE).next();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        CountDownLatch firstRecorded = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> firstWriter = writers.submit(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    eventChangeFeed.record(EventChangeType.PARTICIPANT_JOINED, event.id(), first);
+                    firstRecorded.countDown();
+                    awaitUninterruptibly(commitFirst);
+                }));
+            assertTrue(firstRecorded.await(5, TimeUnit.SECONDS));
+            writers.submit(() -> transactionTemplate.executeWithoutResult(status ->
+                eventChangeFeed.record(EventChangeType.PARTICIPANT_JOINED, event.id(), second)))
+                .get(5, TimeUnit.SECONDS);
+
+            eventChangeFeed.stamp();
+            List<EventChangeDto> beforeFirstCommits = eventChangeFeed.read(start, 10).changes();
+            assertEquals(List.of(second), beforeFirstCommits.stream()
+                .map(EventChangeDto::participantUserId).toList());
+
+            commitFirst.countDown();
+            firstWriter.get(5, TimeUnit.SECONDS);
+            eventChangeFeed.stamp();
+
+            long resumeAt = beforeFirstCommits.getLast().seq();
+            assertEquals(List.of(first), eventChangeFeed.read(resumeAt, 10).changes().stream()
+                .map(EventChangeDto::participantUserId).toList());
+        } finally {
+            commitFirst.countDown();
+            writers.shutdownNow();
+            jdbcTemplate.update("delete from event_changes where event_id = ?", event.id());
+            jdbcTemplate.update("delete from events where id = ?", event.id());
+        }
+    }
+
+    @Test
+    void poll_withoutNewChanges_shouldParkUntilChangesArrive() {
+        long start = eventChangeFeed.read(0, EventChangeFeed.MAX_CHANGES_PAGE_SIZE).next();
+
+        DeferredResult<EventChangesPageDto> result = eventChangeFeed.poll(start, 10, 30);
+        assertFalse(result.hasResult());
+
+        createEvent("POLL25");
+        eventChangeFeed.stamp();
+        eventChangeFeed.wakeWaiters();
+
+        assertTrue(result.hasResult());
+        EventChangesPageDto page = (EventChangesPageDto) result.getResult();
+        assertEquals("POLL25", page.changes().getFirst().eventCode());
+    }
+
+    @Test
+    void poll_withZeroWait_shouldAnswerImmediately() {
+        long start = eventChangeFeed.read(0, EventChangeFeed.MAX_CHANGES_PAGE_SIZE).next();
+
+        DeferredResult<EventChangesPageDto> result = eventChangeFeed.poll(start, 10, 0);
+
+        assertTrue(result.hasResult());
+        assertTrue(((EventChangesPageDto) result.getResult()).changes().isEmpty());
+    }
+
+    @Test
+    void compact_shouldDeleteChangesOlderThanRetention() {
+        EventResponseDto event = createEvent("OLD25");
+        EventChange old = new EventChange();
+        old.setType(EventChangeType.PARTICIPANT_JOINED);
+        old.setEventId(event.id());
+        old.setParticipantUserId(UUID.randomUUID());
+        old.setRecordedAt(Instant.now().minus(Duration.ofDays(30)));
+        Long oldId = eventChangesRepository.saveAndFlush(old).getId();
+        eventChangeFeed.stamp();
+
+        eventChangeFeed.compact();
+
+        assertFalse(eventChangesRepository.existsById(oldId));
+        assertTrue(eventChangeFeed.read(0, EventChangeFeed.MAX_CHANGES_PAGE_SIZE).changes()
+            .stream().anyMatch(change -> change.eventCode().equals("OLD25")));
+    }
+
+    private EventResponseDto createEvent(final String code) {
+        return eventsService.createEvent(new EventRequestDto(code, "Feed event",
+            UUID.randomUUID(), LocalDate.now().plusDays(1), new LocationDto("Feed Hall", "Arad"),
+            null));
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Jwt jwt(final UUID participantUserId) {
+        return Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build();
+    }
+}
@@ -0,0 +1,104 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.events.entity.Event;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+/**
+ * Not transactional: tailing reads stamped seqs, and a seq stamped in a rolled-back test
+ * transaction would be handed out again after the tailer has already moved past it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class EventChangeTailerIntegrationTest {
+
+    @Autowired
+    private EventChangeFeed eventChangeFeed;
+
+    @Autowired
+    private EventChangeTailer eventChangeTailer;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
+    @Autowired
+    private EventGeoIndex eventGeoIndex;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private LocationService locationService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void eventCreatedOnAnotherInstance_shouldBecomeSearchableAfterTailing() {
+        Long eventId = createElsewhere("TAIL25", "Quokkafest",
+            new LocationDto("Tail Hall", "Deva"));
+        try {
+            eventChangeFeed.stamp();
+            eventChangeTailer.tail();
+
+            assertEquals(List.of(eventId), eventSearchIndex.search("quokkafest", 10));
+        } finally {
+            jdbcTemplate.update("delete from event_changes where event_id = ?", eventId);
+            jdbcTemplate.update("delete from events where id = ?", eventId);
+        }
+    }
+
+    @Test
+    void venueLocatedAfterEventsWereCreated_shouldAddThemToGeoIndexAfterTailing() {
+        Long eventId = createElsewhere("TAIL26", "Unlocated",
+            new LocationDto("Tail Fort", "Alba Iulia"));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                locationService.resolve(
+                    new LocationDto("Tail Fort", "Alba Iulia", 46.0677, 23.5700)));
+            eventChangeFeed.stamp();
+            eventChangeTailer.tail();
+
+            assertEquals(List.of(eventId), eventGeoIndex.nearest(46.0677, 23.5700, 1,
+                LocalDate.now(), 10).stream().map(EventGeoIndex.Match::eventId).toList());
+        } finally {
+            jdbcTemplate.update("delete from event_changes where event_id = ?", eventId);
+            jdbcTemplate.update("delete from events where id = ?", eventId);
+        }
+    }
+
+    /**
+     * Commits an event the way another instance would, without publishing the local after-commit
+     * event the indexes also listen to.
+     */
+    private Long createElsewhere(final String code, final String name,
+        final LocationDto location) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Event event = new Event();
+            event.setCode(code);
+            event.setName(name);
+            event.setDate(LocalDate.now().plusDays(1));
+            event.setOwnerUserId(UUID.randomUUID());
+            event.setLocation(locationService.resolve(location));
+            Long id = eventsRepository.save(event).getId();
+            eventChangeFeed.record(EventChangeType.EVENT_CREATED, id, null);
+            return id;
+        });
+    }
+}
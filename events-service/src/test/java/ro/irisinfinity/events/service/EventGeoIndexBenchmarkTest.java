@@ -0,0 +1,82 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ro.irisinfinity.events.repository.EventGeoPoint;
+
+/**
+ * Indexes one million events spread over Romania and reports nearby query latencies.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventGeoIndexBenchmarkTest {
+
+    private static final int EVENTS = 1_000_000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 1_000;
+
+    private static final double MIN_LAT = 43.6;
+    private static final double MAX_LAT = 48.3;
+    private static final double MIN_LON = 20.2;
+    private static final double MAX_LON = 29.7;
+
+    private EventGeoIndex index;
+
+    @BeforeAll
+    void buildIndex() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        index = new EventGeoIndex();
+
+        long started = System.nanoTime();
+        for (long id = 1; id <= EVENTS; id++) {
+            index.add(new EventGeoPoint(id, today.plusDays(random.nextInt(365)),
+                MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT),
+                MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON)));
+        }
+        log.info("nearby benchmark: indexed {} events in {} ms", EVENTS,
+            (System.nanoTime() - started) / 1_000_000);
+        assertEquals(EVENTS, index.size());
+    }
+
+    @ParameterizedTest(name = "radius {0} km")
+    @ValueSource(doubles = {1, 5, 25, 100, 500})
+    void nearest(final double radiusKm) {
+        Random random = new Random(7);
+        LocalDate from = LocalDate.now().plusDays(30);
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            query(random, radiusKm, from);
+        }
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        int hits = 0;
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long started = System.nanoTime();
+            hits = query(random, radiusKm, from).size();
+            latencies[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(latencies);
+
+        log.info("nearby benchmark: radius={} km, hits={}, p50={} us, p99={} us", radiusKm, hits,
+            latencies[MEASURED_QUERIES / 2] / 1_000,
+            latencies[MEASURED_QUERIES * 99 / 100] / 1_000);
+    }
+
+    private List<EventGeoIndex.Match> query(final Random random, final double radiusKm,
+        final LocalDate from) {
+        return index.nearest(MIN_LAT + random.nextDouble() * (MAX_LAT - MIN_LAT),
+            MIN_LON + random.nextDouble() * (MAX_LON - MIN_LON), radiusKm, from, 20);
+    }
+}
@@ -0,0 +1,86 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ro.irisinfinity.events.repository.EventGeoPoint;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+class EventGeoIndexUnitTest {
+
+    private static final double BUCHAREST_LAT = 44.4268;
+    private static final double BUCHAREST_LON = 26.1025;
+
+    private final LocalDate today = LocalDate.now();
+    private EventGeoIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new EventGeoIndex();
+        index.add(new EventGeoPoint(1L, today, 44.4355, 26.1025));
+        index.add(new EventGeoPoint(2L, today.plusDays(1), 44.4268, 26.1400));
+        index.add(new EventGeoPoint(3L, today.minusDays(1), 44.4300, 26.1000));
+        index.add(new EventGeoPoint(4L, today, 46.7712, 23.6236));
+    }
+
+    @Test
+    @DisplayName("nearest should return events inside the radius ordered by distance")
+    void nearest_shouldOrderByDistance() {
+        List<EventGeoIndex.Match> matches =
+            index.nearest(BUCHAREST_LAT, BUCHAREST_LON, 10, null, 10);
+
+        assertEquals(List.of(3L, 1L, 2L), matches.stream().map(EventGeoIndex.Match::eventId)
+            .toList());
+        assertTrue(matches.getLast().distanceKm() < 3.1);
+    }
+
+    @Test
+    @DisplayName("nearest should cover cities further away once the radius allows it")
+    void nearest_largeRadius_shouldIncludeFarEvents() {
+        List<EventGeoIndex.Match> matches =
+            index.nearest(BUCHAREST_LAT, BUCHAREST_LON, 350, null, 10);
+
+        assertEquals(4L, matches.getLast().eventId());
+        assertEquals(323, matches.getLast().distanceKm(), 5);
+    }
+
+    @Test
+    @DisplayName("nearest should skip events before the from date and honour the limit")
+    void nearest_shouldFilterByDateAndLimit() {
+        assertEquals(List.of(1L),
+            index.nearest(BUCHAREST_LAT, BUCHAREST_LON, 10, today, 1).stream()
+                .map(EventGeoIndex.Match::eventId).toList());
+    }
+
+    @Test
+    @DisplayName("nearest should find events across the antimeridian")
+    void nearest_shouldWrapLongitude() {
+        index.add(new EventGeoPoint(5L, today, -16.5, 179.95));
+
+        List<EventGeoIndex.Match> matches = index.nearest(-16.5, -179.95, 20, null, 10);
+
+        assertEquals(List.of(5L), matches.stream().map(EventGeoIndex.Match::eventId).toList());
+    }
+
+    @Test
+    @DisplayName("onEventCreated should index located events once and skip unlocated ones")
+    void onEventCreated_shouldIndexLocatedEvents() {
+        EventSummaryDto located = new EventSummaryDto(6L, "GEO1", "Located", today,
+            UUID.randomUUID(), new LocationDto("Ateneu", "Bucharest", 44.4413, 26.0973), null, 0);
+        EventSummaryDto unlocated = new EventSummaryDto(7L, "GEO2", "Unlocated", today,
+            UUID.randomUUID(), new LocationDto("Somewhere", "Bucharest"), null, 0);
+
+        index.onEventCreated(new EventCreatedEvent(located));
+        index.onEventCreated(new EventCreatedEvent(located));
+        index.onEventCreated(new EventCreatedEvent(unlocated));
+
+        assertEquals(5, index.size());
+    }
+}
@@ -0,0 +1,141 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.platform.common.dto.events.EventImportErrorDto;
+import ro.irisinfinity.platform.common.dto.events.EventImportReportDto;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+@SpringBootTest(properties = {
+    "events.bulk-import.batch-size=2",
+    "events.bulk-import.max-reported-errors=3"
+})
+@Transactional
+@RecordApplicationEvents
+@ActiveProfiles("test")
+class EventImportServiceIntegrationTest {
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @SpyBean
+    private EventChangeFeed eventChangeFeed;
+
+    @Test
+    void importEvents_shouldWriteValidLinesAndReportTheRest() throws Exception {
+        eventsService.createEvent(new EventRequestDto("EXIST1", "Existing", UUID.randomUUID(),
+            LocalDate.now().plusDays(1), new LocationDto("Hall", "Iasi"), null));
+        eventsRepository.flush();
+        String owner = UUID.randomUUID().toString();
+        String date = LocalDate.now().plusDays(3).toString();
+
+        EventImportReportDto report = importLines(
+            line("IMP001", "First import", owner, date, "Hall", "Iasi"),
+            line("IMP002", "Second import", owner, date, "Dome", "Sibiu"),
+            "",
+            "{not json",
+            line("IMP003", "Third import", owner, date, "Hall", "Iasi"),
+            line("IMP003", "Third again", owner, date, "Hall", "Iasi"),
+            line("EXIST1", "Existing again", owner, date, "Hall", "Iasi"),
+            line("X", "Bad code", owner, date, "Hall", "Iasi"),
+            line("IMP004", "Fourth import", owner, date, "hall ", "IASI")
+        );
+
+        assertEquals(4, report.imported());
+        assertEquals(2, report.duplicates());
+        assertEquals(2, report.rejected());
+        assertTrue(report.errorsTruncated());
+        assertEquals(List.of(4L, 6L, 7L),
+            report.errors().stream().map(EventImportErrorDto::line).toList());
+
+        assertTrue(eventsRepository.existsByCode("IMP004"));
+        assertEquals("Third import", eventsRepository.findByCode("IMP003").orElseThrow().getName());
+        assertEquals(2, locationRepository.count());
+    }
+
+    @Test
+    void importEvents_acrossManyBatches_shouldImportEveryLine() throws Exception {
+        String owner = UUID.randomUUID().toString();
+        String date = LocalDate.now().plusDays(5).toString();
+
+        EventImportReportDto report = importLines(IntStream.range(0, 25)
+            .mapToObj(i -> line("BATCH" + i, "Batch event " + i, owner, date, "Arena", "Bucharest"))
+            .toArray(String[]::new));
+
+        assertEquals(25, report.imported());
+        assertEquals(0, report.duplicates());
+        assertEquals(0, report.rejected());
+        assertFalse(report.errorsTruncated());
+        assertTrue(report.errors().isEmpty());
+        assertEquals(25, eventsRepository.count());
+    }
+
+    @Test
+    void importEvents_whenBatchFailsAfterInsert_shouldRejectRowsOnceAndAnnounceNothing()
+        throws Exception {
+        String owner = UUID.randomUUID().toString();
+        String date = LocalDate.now().plusDays(7).toString();
+        doThrow(new DataIntegrityViolationException("change feed unavailable"))
+            .when(eventChangeFeed).recordAll(any(), any());
+
+        EventImportReportDto report = importLines(
+            line("FAIL01", "First failed", owner, date, "Hall", "Iasi"),
+            line("FAIL02", "Second failed", owner, date, "Hall", "Iasi"));
+
+        assertEquals(0, report.imported());
+        assertEquals(0, report.duplicates());
+        assertEquals(2, report.rejected());
+        assertEquals(0, applicationEvents.stream(EventCreatedEvent.class).count());
+    }
+
+    private EventImportReportDto importLines(final String... lines) throws Exception {
+        String ndjson = String.join("\n", lines);
+        return eventImportService.importEvents(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String line(final String code, final String name, final String owner,
+        final String date, final String locationName, final String address) {
+        return """
+            {"code":"%s","name":"%s","ownerUserId":"%s","date":"%s",\
+            "location":{"name":"%s","address":"%s"}}"""
+            .formatted(code, name, owner, date, locationName, address)
+            .lines()
+            .collect(Collectors.joining());
+    }
+}
@@ -0,0 +1,84 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.events.entity.Event;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.events.repository.LocationRepository;
+
+/**
+ * Measures insert throughput of {@code Event} rows persisted through JPA, one transaction per
+ * chunk. Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class EventInsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 50_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertEvents() {
+        Location location = new Location();
+        location.setName("Insert Benchmark Hall");
+        location.setAddress("Bucharest");
+        location.setNormalizedKey("insert benchmark hall|bucharest");
+        Location venue = locationRepository.save(location);
+
+        insert(venue, "WARM", WARMUP_ROWS);
+
+        long started = System.nanoTime();
+        insert(venue, "INS", MEASURED_ROWS);
+        long elapsed = System.nanoTime() - started;
+
+        log.info("event insert benchmark: rows={}, chunk={}, {} rows/s", MEASURED_ROWS,
+            CHUNK_SIZE, MEASURED_ROWS * 1_000_000_000L / elapsed);
+        assertEquals(WARMUP_ROWS + MEASURED_ROWS, eventsRepository.count());
+    }
+
+    private void insert(final Location venue, final String prefix, final int rows) {
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            int chunkStart = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                Location location = entityManager.getReference(Location.class, venue.getId());
+                for (int i = chunkStart; i < Math.min(chunkStart + CHUNK_SIZE, rows); i++) {
+                    Event event = new Event();
+                    event.setCode(prefix + i);
+                    event.setName("Insert benchmark " + i);
+                    event.setDate(LocalDate.now().plusDays(1 + i % 365));
+                    event.setOwnerUserId(UUID.randomUUID());
+                    event.setLocation(location);
+                    entityManager.persist(event);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+}
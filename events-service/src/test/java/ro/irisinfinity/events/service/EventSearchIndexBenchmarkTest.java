@@ -0,0 +1,83 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ro.irisinfinity.events.repository.EventSearchDocument;
+
+/**
+ * Builds the search index over one million synthetic events and reports query latencies.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EventSearchIndexBenchmarkTest {
+
+    private static final int EVENTS = 1_000_000;
+    private static final int WARMUP_QUERIES = 200;
+    private static final int MEASURED_QUERIES = 1_000;
+
+    private static final String[] EVENT_WORDS = {
+        "Festivalul", "Concert", "Conferința", "Târg", "Expoziție", "Maraton", "Jazz", "Rock",
+        "Teatru", "Workshop", "Meetup", "Gala", "Spring", "Java", "Cloud", "Design", "Startup",
+        "Filarmonica", "Seara", "Poezie", "Film", "Dans", "Operă", "Carte", "Vin", "Gastronomie"
+    };
+    private static final String[] VENUES = {
+        "Piața Unirii", "Sala Palatului", "Parcul Central", "Tech Hub", "Ateneul Român",
+        "Casa de Cultură", "Arena Națională", "Cetatea", "Muzeul Satului", "Teatrul Național"
+    };
+    private static final String[] CITIES = {
+        "București", "Cluj-Napoca", "Timișoara", "Iași", "Brașov", "Constanța", "Sibiu",
+        "Oradea", "Craiova", "Târgu Mureș", "Suceava", "Baia Mare"
+    };
+
+    private EventSearchIndex index;
+
+    @BeforeAll
+    void buildIndex() {
+        Random random = new Random(42);
+        index = new EventSearchIndex();
+
+        long started = System.nanoTime();
+        for (long id = 1; id <= EVENTS; id++) {
+            String name = EVENT_WORDS[random.nextInt(EVENT_WORDS.length)] + " "
+                + EVENT_WORDS[random.nextInt(EVENT_WORDS.length)] + " " + (id % 5_000);
+            index.add(new EventSearchDocument(id, name, VENUES[random.nextInt(VENUES.length)],
+                CITIES[random.nextInt(CITIES.length)]));
+        }
+        log.info("search benchmark: indexed {} events in {} ms", EVENTS,
+            (System.nanoTime() - started) / 1_000_000);
+        assertEquals(EVENTS, index.size());
+    }
+
+    @ParameterizedTest(name = "query \"{0}\"")
+    @ValueSource(strings = {"j", "jaz", "jazz", "festivalul jazz cluj", "targu mures", "apoca",
+        "conferinta 4242"})
+    void search(final String query) {
+        for (int i = 0; i < WARMUP_QUERIES; i++) {
+            index.search(query, 20);
+        }
+
+        long[] latencies = new long[MEASURED_QUERIES];
+        List<Long> results = List.of();
+        for (int i = 0; i < MEASURED_QUERIES; i++) {
+            long started = System.nanoTime();
+            results = index.search(query, 20);
+            latencies[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(latencies);
+
+        log.info("search benchmark: query=\"{}\", hits={}, p50={} us, p99={} us", query,
+            results.size(), latencies[MEASURED_QUERIES / 2] / 1_000,
+            latencies[MEASURED_QUERIES * 99 / 100] / 1_000);
+    }
+}
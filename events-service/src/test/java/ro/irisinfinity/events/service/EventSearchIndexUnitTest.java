@@ -0,0 +1,91 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import ro.irisinfinity.events.repository.EventSearchDocument;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+class EventSearchIndexUnitTest {
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new EventSearchIndex();
+        index.add(new EventSearchDocument(1L, "Festivalul de Jazz", "Piața Unirii", "Timișoara"));
+        index.add(new EventSearchDocument(2L, "Spring Conf", "Tech Hub", "Cluj-Napoca"));
+        index.add(new EventSearchDocument(3L, "Jazz in the Park", "Parcul Central", "Cluj-Napoca"));
+        index.add(new EventSearchDocument(4L, "Jazzmania", "Sala Palatului", "București"));
+    }
+
+    @ParameterizedTest(name = "\"{0}\" matches Timișoara")
+    @ValueSource(strings = {"timisoara", "Timișoara", "TIMIŞOARA", "timi", "piata unirii"})
+    @DisplayName("search should fold diacritics, case and cedilla variants")
+    void search_shouldFoldDiacritics(final String query) {
+        assertEquals(List.of(1L), index.search(query, 10));
+    }
+
+    @Test
+    @DisplayName("search should rank exact term matches before prefix matches")
+    void search_shouldRankExactMatchesFirst() {
+        assertEquals(List.of(1L, 3L, 4L), index.search("jazz", 10));
+        assertEquals(List.of(4L), index.search("jazzm", 10));
+    }
+
+    @Test
+    @DisplayName("search should require every token to match")
+    void search_shouldIntersectTokens() {
+        assertEquals(List.of(3L), index.search("jazz cluj", 10));
+        assertTrue(index.search("jazz sibiu", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("search should fall back to trigrams for tokens that prefix no term")
+    void search_shouldMatchInfixByTrigrams() {
+        assertEquals(List.of(2L, 3L), index.search("napoca", 10));
+        assertEquals(List.of(2L, 3L), index.search("apoca", 10));
+        assertEquals(List.of(4L), index.search("curesti", 10));
+    }
+
+    @Test
+    @DisplayName("search should honour the limit and ignore blank queries")
+    void search_shouldHonourLimit() {
+        assertEquals(List.of(1L, 3L), index.search("jazz", 2));
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("onEventCreated should index the event once")
+    void onEventCreated_shouldIndexOnce() {
+        EventSummaryDto event = new EventSummaryDto(5L, "ROCK26", "Rock la Mureș", LocalDate.now(),
+            UUID.randomUUID(), new LocationDto("Stadion", "Târgu Mureș"), null, 0);
+
+        index.onEventCreated(new EventCreatedEvent(event));
+        index.onEventCreated(new EventCreatedEvent(event));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of(5L), index.search("targu mures", 10));
+    }
+
+    @Test
+    @DisplayName("add should accept event ids beyond the int range")
+    void add_shouldAcceptLargeEventIds() {
+        long eventId = Integer.MAX_VALUE + 10L;
+
+        index.add(new EventSearchDocument(eventId, "Opera Gala", "Opera Națională", "Iași"));
+        index.add(new EventSearchDocument(eventId, "Opera Gala", "Opera Națională", "Iași"));
+
+        assertEquals(5, index.size());
+        assertEquals(List.of(eventId), index.search("opera gala", 10));
+    }
+}
@@ -1,27 +1,36 @@
 package ro.irisinfinity.events.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
-import ro.irisinfinity.events.client.UsersClient;
+import org.springframework.web.server.ResponseStatusException;
 import ro.irisinfinity.events.repository.EventsRepository;
 import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.platform.common.dto.events.EventLookupResultDto;
 import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
 import ro.irisinfinity.platform.common.dto.events.EventResponseDto;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.JoinAcknowledgementDto;
 import ro.irisinfinity.platform.common.dto.events.LocationDto;
-import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
-import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
 
 @SpringBootTest
 @Transactional
@@ -37,8 +46,8 @@ class EventsServiceIntegrationTest {
     @Autowired
     private LocationRepository locationRepository;
 
-    @MockBean
-    private UsersClient usersClient;
+    @Autowired
+    private ParticipantProfileService participantProfileService;
 
     @Test
     void createAndGetEvent_ByCode_shouldWork() {
@@ -47,7 +56,8 @@ class EventsServiceIntegrationTest {
             "Spring Conf",
             UUID.randomUUID(),
             LocalDate.now().plusDays(1),
-            new LocationDto("Tech Hub", "Bucharest")
+            new LocationDto("Tech Hub", "Bucharest"),
+            null
         );
 
         EventResponseDto created = eventsService.createEvent(req);
@@ -55,19 +65,20 @@ class EventsServiceIntegrationTest {
         assertEquals(req.name(), created.name());
         assertEquals(req.location().name(), created.location().name());
 
-        EventResponseDto fetched = eventsService.getEventByCode(req.code());
+        EventResponseDto fetched = eventsService.getEventByCode(req.code(), false);
         assertEquals(req.code(), fetched.code());
         assertEquals("Tech Hub", fetched.location().name());
     }
 
     @Test
-    void joinEvent_shouldAddParticipant_andReturnUserDetails() {
+    void joinEvent_shouldAddParticipantOnce() {
         EventRequestDto req = new EventRequestDto(
             "JOIN25",
             "Joinable",
             UUID.randomUUID(),
             LocalDate.now().plusDays(2),
-            new LocationDto("Arena", "Bucharest")
+            new LocationDto("Arena", "Bucharest"),
+            null
         );
         eventsService.createEvent(req);
 
@@ -77,20 +88,225 @@ class EventsServiceIntegrationTest {
             .claim("userId", participantId.toString())
             .build();
 
-        UserResponseDto userResp = new UserResponseDto(
-            participantId, "joiner@example.com", "Join", "Er",
-            LocalDate.of(1990, 1, 1), Sex.FEMALE,
-            null, true, Set.of()
+        JoinAcknowledgementDto firstJoin = eventsService.joinEvent(req.code(), jwt);
+        JoinAcknowledgementDto secondJoin = eventsService.joinEvent(req.code(), jwt);
+
+        assertEquals(req.code(), firstJoin.code());
+        assertEquals(participantId, firstJoin.participantUserId());
+        assertFalse(firstJoin.alreadyJoined());
+        assertTrue(secondJoin.alreadyJoined());
+
+        var saved = eventsRepository.findByCode(req.code()).orElseThrow();
+        assertEquals(1, saved.getParticipantCount());
+        assertEquals(Set.of(participantId), saved.getParticipants());
+    }
+
+    @Test
+    void getParticipants_shouldPageThroughAllParticipants() {
+        EventRequestDto req = new EventRequestDto(
+            "PAGE25",
+            "Paged",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(3),
+            new LocationDto("Hall", "Cluj"),
+            null
         );
-        when(usersClient.getUserByExternalId(participantId)).thenReturn(userResp);
+        eventsService.createEvent(req);
 
-        EventResponseDto afterJoin = eventsService.joinEvent(req.code(), jwt);
+        List<UUID> participantIds = new ArrayList<>();
+        List<ParticipantProfileDto> profiles = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            UUID participantId = UUID.randomUUID();
+            participantIds.add(participantId);
+            if (i > 0) {
+                profiles.add(new ParticipantProfileDto(participantId, "P" + i, "User", 0));
+            }
+            eventsService.joinEvent(req.code(), Jwt.withTokenValue("t")
+                .header("alg", "none")
+                .claim("userId", participantId.toString())
+                .build());
+        }
+        participantProfileService.sync(new ParticipantProfilesSyncDto(profiles, Set.of()));
 
-        assertEquals(req.code(), afterJoin.code());
-        assertEquals(1, afterJoin.participants().size());
-        assertEquals("joiner@example.com", afterJoin.participants().getFirst().email());
+        List<ParticipantDto> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDto<ParticipantDto> page =
+                eventsService.getParticipants(req.code(), cursor, 2);
+            seen.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
 
-        var saved = eventsRepository.findByCode(req.code()).orElseThrow();
-        assertTrue(saved.getParticipants().contains(participantId));
+        assertEquals(3, pages);
+        assertEquals(Set.copyOf(participantIds),
+            seen.stream().map(ParticipantDto::externalId).collect(Collectors.toSet()));
+        ParticipantDto withoutProfile = seen.stream()
+            .filter(participant -> participant.externalId().equals(participantIds.getFirst()))
+            .findFirst().orElseThrow();
+        assertNull(withoutProfile.firstName());
+        assertEquals(4, seen.stream().filter(participant -> participant.firstName() != null)
+            .count());
+
+        EventResponseDto full = eventsService.getEventByCode(req.code(), false);
+        assertEquals(Set.copyOf(seen), Set.copyOf(full.participants()));
+
+        EventResponseDto summary = eventsService.getEventByCode(req.code(), true);
+        assertEquals(5, summary.participantCount());
+        assertNull(summary.participants());
+    }
+
+    @Test
+    void getEvents_shouldPageByDateAndFilterByOwner() {
+        UUID owner = UUID.randomUUID();
+        UUID otherOwner = UUID.randomUUID();
+        LocalDate base = LocalDate.now().plusDays(400);
+        List<String> ownedCodes = List.of("LST1", "LST2", "LST3", "LST4", "LST5");
+        for (int i = 0; i < ownedCodes.size(); i++) {
+            eventsService.createEvent(new EventRequestDto(
+                ownedCodes.get(i),
+                "Listed " + i,
+                owner,
+                base.plusDays(i / 2),
+                new LocationDto("Venue " + i, "Timisoara"),
+                null
+            ));
+        }
+        eventsService.createEvent(new EventRequestDto(
+            "LST6",
+            "Someone else's",
+            otherOwner,
+            base,
+            new LocationDto("Venue 6", "Timisoara"),
+            null
+        ));
+
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDto<EventSummaryDto> page =
+                eventsService.getEvents(base, null, owner, cursor, 2);
+            page.items().forEach(event -> seen.add(event.code()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(ownedCodes, seen);
+
+        CursorPageDto<EventSummaryDto> firstDay =
+            eventsService.getEvents(base, base, null, null, 10);
+        assertEquals(List.of("LST1", "LST2", "LST6"),
+            firstDay.items().stream().map(EventSummaryDto::code).toList());
+        assertEquals("Venue 0", firstDay.items().getFirst().location().name());
+        assertNull(firstDay.nextCursor());
+    }
+
+    @Test
+    void getMyEvents_shouldListJoinedAndOwnedEventsByDate() {
+        UUID userId = UUID.randomUUID();
+        Jwt jwt = Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", userId.toString())
+            .build();
+        LocalDate base = LocalDate.now().plusDays(500);
+        for (int i = 0; i < 4; i++) {
+            eventsService.createEvent(new EventRequestDto(
+                "MINE" + i,
+                "Mine " + i,
+                i == 3 ? userId : UUID.randomUUID(),
+                base.minusDays(i),
+                new LocationDto("Stage " + i, "Iasi"),
+                null
+            ));
+        }
+        eventsService.joinEvent("MINE0", jwt);
+        eventsService.joinEvent("MINE1", jwt);
+        eventsService.joinEvent("MINE2", jwt);
+
+        List<String> joined = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPageDto<EventSummaryDto> page =
+                eventsService.getMyEvents(jwt, "participant", cursor, 2);
+            page.items().forEach(event -> joined.add(event.code()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(2, pages);
+        assertEquals(List.of("MINE2", "MINE1", "MINE0"), joined);
+
+        CursorPageDto<EventSummaryDto> owned = eventsService.getMyEvents(jwt, "OWNER", null, 10);
+        assertEquals(List.of("MINE3"),
+            owned.items().stream().map(EventSummaryDto::code).toList());
+        assertNull(owned.nextCursor());
+
+        assertThrows(ResponseStatusException.class,
+            () -> eventsService.getMyEvents(jwt, "admin", null, 10));
+    }
+
+    @Test
+    void getEventsByCodes_shouldKeepRequestOrderAndMarkMissingCodes() {
+        LocalDate date = LocalDate.now().plusDays(30);
+        for (String code : List.of("BAT1", "BAT2")) {
+            eventsService.createEvent(new EventRequestDto(code, "Batch " + code,
+                UUID.randomUUID(), date, new LocationDto("Dome", "Brasov"), null));
+        }
+        UUID participantId = UUID.randomUUID();
+        eventsService.joinEvent("BAT2", Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantId.toString())
+            .build());
+        participantProfileService.sync(new ParticipantProfilesSyncDto(
+            List.of(new ParticipantProfileDto(participantId, "Ioana", "Pop", 0)), Set.of()));
+
+        List<EventLookupResultDto> results = eventsService.getEventsByCodes(
+            List.of("BAT2", "MISSING", "BAT1"), true);
+
+        assertEquals(List.of("BAT2", "MISSING", "BAT1"),
+            results.stream().map(EventLookupResultDto::code).toList());
+        assertEquals(List.of(true, false, true),
+            results.stream().map(EventLookupResultDto::found).toList());
+        assertNull(results.get(1).event());
+        assertEquals("Dome", results.get(0).event().location().name());
+        assertEquals(List.of(new ParticipantDto(participantId, "Ioana", "Pop")),
+            results.get(0).event().participants());
+        assertEquals(List.of(), results.get(2).event().participants());
+
+        List<EventLookupResultDto> summaries = eventsService.getEventsByCodes(
+            List.of("BAT2"), false);
+        assertEquals(1, summaries.getFirst().event().participantCount());
+        assertNull(summaries.getFirst().event().participants());
+    }
+
+    @Test
+    void createEvent_shouldReuseLocationForTheSameVenue() {
+        eventsService.createEvent(new EventRequestDto(
+            "VEN1",
+            "First at venue",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(5),
+            new LocationDto("Piața Unirii", "Cluj-Napoca"),
+            null
+        ));
+        eventsService.createEvent(new EventRequestDto(
+            "VEN2",
+            "Second at venue",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(6),
+            new LocationDto("  piata   UNIRII ", "cluj-napoca"),
+            null
+        ));
+
+        var first = eventsRepository.findByCode("VEN1").orElseThrow();
+        var second = eventsRepository.findByCode("VEN2").orElseThrow();
+
+        assertEquals(first.getLocation().getId(), second.getLocation().getId());
+        assertEquals("Piața Unirii", second.getLocation().getName());
+        assertTrue(locationRepository.findByNormalizedKey("piata unirii|cluj-napoca").isPresent());
     }
-}
\ No newline at end of file
+}
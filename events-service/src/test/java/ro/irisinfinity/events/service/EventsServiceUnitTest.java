@@ -1,51 +1,83 @@
 package ro.irisinfinity.events.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.oauth2.jwt.Jwt;
-import ro.irisinfinity.events.client.UsersClient;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import ro.irisinfinity.events.config.EventsProperties;
 import ro.irisinfinity.events.entity.Event;
 import ro.irisinfinity.events.entity.Location;
 import ro.irisinfinity.events.exception.EventAlreadyExistsException;
+import ro.irisinfinity.events.exception.EventFullException;
 import ro.irisinfinity.events.exception.EventNotFoundException;
+import ro.irisinfinity.events.repository.EventCapacity;
+import ro.irisinfinity.events.repository.EventGeoPoint;
 import ro.irisinfinity.events.repository.EventsRepository;
-import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.platform.common.dto.events.EventLookupResultDto;
 import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
 import ro.irisinfinity.platform.common.dto.events.EventResponseDto;
+import ro.irisinfinity.platform.common.dto.events.EventSummaryDto;
+import ro.irisinfinity.platform.common.dto.events.JoinAcknowledgementDto;
 import ro.irisinfinity.platform.common.dto.events.LocationDto;
-import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.dto.events.NearbyEventDto;
+import ro.irisinfinity.platform.common.dto.events.ParticipantDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.util.Cursors;
 
 class EventsServiceUnitTest {
 
-    @InjectMocks
     private EventsService eventsService;
 
     @Mock
     private EventsRepository eventsRepository;
 
     @Mock
-    private LocationRepository locationRepository;
+    private LocationService locationService;
 
     @Mock
-    private UsersClient usersClient;
+    private ParticipantJoinBatcher participantJoinBatcher;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private TransactionTemplate transactionTemplate;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private EventChangeFeed eventChangeFeed;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventGeoIndex eventGeoIndex;
     private EventRequestDto req;
     private LocationDto locationDto;
     private Location locationEntity;
@@ -58,9 +90,17 @@ class EventsServiceUnitTest {
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
+        eventGeoIndex = new EventGeoIndex();
+        SeatAdmissionService seatAdmissionService = new SeatAdmissionService(
+            eventsRepository, new EventsProperties(), new SimpleMeterRegistry());
+        eventsService = new EventsService(eventsRepository, locationService,
+            seatAdmissionService, participantJoinBatcher, transactionTemplate,
+            eventSearchIndex, eventGeoIndex, eventChangeFeed, eventPublisher);
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
 
         locationDto = new LocationDto("Tech Hub", "Bucharest");
-        req = new EventRequestDto(code, "Spring Conf", ownerId, date, locationDto);
+        req = new EventRequestDto(code, "Spring Conf", ownerId, date, locationDto, null);
 
         locationEntity = new Location();
         locationEntity.setId(10L);
@@ -80,8 +120,7 @@ class EventsServiceUnitTest {
     @DisplayName("createEvent should persist and return mapped response")
     void createEvent_success() {
         when(eventsRepository.existsByCode(code)).thenReturn(false);
-        when(objectMapper.convertValue(locationDto, Location.class)).thenReturn(locationEntity);
-        when(locationRepository.save(locationEntity)).thenReturn(locationEntity);
+        when(locationService.resolve(locationDto)).thenReturn(locationEntity);
         when(eventsRepository.save(any(Event.class))).thenReturn(eventEntity);
 
         EventResponseDto resp = eventsService.createEvent(req);
@@ -90,6 +129,7 @@ class EventsServiceUnitTest {
         assertEquals("Spring Conf", resp.name());
         assertEquals(ownerId, resp.ownerUserId());
         assertEquals("Tech Hub", resp.location().name());
+        verify(eventPublisher).publishEvent(any(EventCreatedEvent.class));
     }
 
     @Test
@@ -99,12 +139,71 @@ class EventsServiceUnitTest {
         assertThrows(EventAlreadyExistsException.class, () -> eventsService.createEvent(req));
     }
 
+    @Test
+    @DisplayName("searchEvents should return summaries in index rank order")
+    void searchEvents_shouldKeepIndexOrder() {
+        Event other = new Event();
+        other.setId(2L);
+        other.setCode("OTHER");
+        other.setName("Other Conf");
+        other.setDate(date);
+        other.setOwnerUserId(ownerId);
+        other.setLocation(locationEntity);
+        when(eventSearchIndex.search("conf", 10)).thenReturn(List.of(2L, 1L));
+        when(eventsRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(eventEntity, other));
+
+        List<EventSummaryDto> results = eventsService.searchEvents("conf", 10);
+
+        assertEquals(List.of("OTHER", code), results.stream().map(EventSummaryDto::code).toList());
+    }
+
+    @Test
+    @DisplayName("searchEvents should not query the database when nothing matches")
+    void searchEvents_noMatches_shouldSkipRepository() {
+        when(eventSearchIndex.search("nothing", 10)).thenReturn(List.of());
+
+        assertTrue(eventsService.searchEvents("nothing", 10).isEmpty());
+        verify(eventsRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    @DisplayName("getNearbyEvents should return located events ordered by distance")
+    void getNearbyEvents_shouldOrderByDistance() {
+        Event other = new Event();
+        other.setId(2L);
+        other.setCode("OTHER");
+        other.setName("Other Conf");
+        other.setDate(date);
+        other.setOwnerUserId(ownerId);
+        other.setLocation(locationEntity);
+        eventGeoIndex.add(new EventGeoPoint(1L, date, 44.4355, 26.1025));
+        eventGeoIndex.add(new EventGeoPoint(2L, date, 44.4268, 26.1025));
+        when(eventsRepository.findByIdIn(List.of(2L, 1L))).thenReturn(List.of(eventEntity, other));
+
+        List<NearbyEventDto> results =
+            eventsService.getNearbyEvents(44.4268, 26.1025, 5, null, 10);
+
+        assertEquals(List.of("OTHER", code),
+            results.stream().map(result -> result.event().code()).toList());
+        assertEquals(0, results.getFirst().distanceKm(), 0.001);
+        assertEquals(0.97, results.getLast().distanceKm(), 0.01);
+    }
+
+    @Test
+    @DisplayName("getNearbyEvents should reject radii above the maximum")
+    void getNearbyEvents_radiusTooLarge_shouldThrow() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+            () -> eventsService.getNearbyEvents(44.4268, 26.1025, 5_000, null, 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, ex.getStatusCode());
+    }
+
     @Test
     @DisplayName("getEventByCode should return mapped response when found")
     void getEventByCode_found() {
         when(eventsRepository.findByCode(code)).thenReturn(Optional.of(eventEntity));
 
-        EventResponseDto resp = eventsService.getEventByCode(code);
+        EventResponseDto resp = eventsService.getEventByCode(code, false);
         assertEquals(code, resp.code());
         assertEquals("Tech Hub", resp.location().name());
     }
@@ -113,34 +212,211 @@ class EventsServiceUnitTest {
     @DisplayName("getEventByCode should throw when not found")
     void getEventByCode_notFound() {
         when(eventsRepository.findByCode(code)).thenReturn(Optional.empty());
-        assertThrows(EventNotFoundException.class, () -> eventsService.getEventByCode(code));
+        assertThrows(EventNotFoundException.class, () -> eventsService.getEventByCode(code, false));
     }
 
     @Test
-    @DisplayName("joinEvent should add participant and map to UserResponseDto via UsersClient")
+    @DisplayName("joinEvent should insert the participant and bump the count without loading the event")
     void joinEvent_success() {
         UUID participantId = UUID.randomUUID();
-        eventEntity.getParticipants()
-            .add(participantId);
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, null, 0)));
+        when(eventsRepository.insertParticipant(1L, participantId)).thenReturn(1);
+        when(eventsRepository.incrementParticipantCount(1L)).thenReturn(1);
+
+        JoinAcknowledgementDto ack = eventsService.joinEvent(code, jwtFor(participantId));
+
+        assertEquals(code, ack.code());
+        assertEquals(participantId, ack.participantUserId());
+        assertFalse(ack.alreadyJoined());
+        verify(eventsRepository).incrementParticipantCount(1L);
+        verify(eventsRepository, never()).findByCode(code);
+    }
+
+    @Test
+    @DisplayName("joinEvent should treat a conflicting insert as already joined")
+    void joinEvent_alreadyJoined_shouldNotBumpCount() {
+        UUID participantId = UUID.randomUUID();
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, null, 0)));
+        when(eventsRepository.insertParticipant(1L, participantId)).thenReturn(0);
+
+        JoinAcknowledgementDto ack = eventsService.joinEvent(code, jwtFor(participantId));
+
+        assertTrue(ack.alreadyJoined());
+        verify(eventsRepository, never()).incrementParticipantCount(any());
+    }
+
+    @Test
+    @DisplayName("joinEvent should hand joins into events without capacity to the batcher when enabled")
+    void joinEvent_batchingEnabled_shouldUseBatcher() {
+        UUID participantId = UUID.randomUUID();
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, null, 0)));
+        when(participantJoinBatcher.isEnabled()).thenReturn(true);
+        when(participantJoinBatcher.join(1L, participantId)).thenReturn(true);
+
+        JoinAcknowledgementDto ack = eventsService.joinEvent(code, jwtFor(participantId));
+
+        assertFalse(ack.alreadyJoined());
+        verify(eventsRepository, never()).insertParticipant(any(), any());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("joinEvent should bypass the batcher for events with a capacity")
+    void joinEvent_batchingEnabled_withCapacity_shouldJoinDirectly() {
+        UUID participantId = UUID.randomUUID();
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, 10, 0)));
+        when(participantJoinBatcher.isEnabled()).thenReturn(true);
+        when(eventsRepository.insertParticipant(1L, participantId)).thenReturn(1);
+        when(eventsRepository.incrementParticipantCount(1L)).thenReturn(1);
+
+        eventsService.joinEvent(code, jwtFor(participantId));
+
+        verify(participantJoinBatcher, never()).join(any(), any());
+        verify(eventsRepository).insertParticipant(1L, participantId);
+    }
+
+    @Test
+    @DisplayName("joinEvent should throw when the event does not exist")
+    void joinEvent_notFound_shouldThrow() {
+        when(eventsRepository.findCapacityByCode(code)).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class,
+            () -> eventsService.joinEvent(code, jwtFor(UUID.randomUUID())));
+    }
+
+    @Test
+    @DisplayName("joinEvent should reject joins into a full event without touching participants")
+    void joinEvent_full_shouldRejectInAdmission() {
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, 10, 10)));
+
+        assertThrows(EventFullException.class,
+            () -> eventsService.joinEvent(code, jwtFor(UUID.randomUUID())));
+        assertThrows(EventFullException.class,
+            () -> eventsService.joinEvent(code, jwtFor(UUID.randomUUID())));
+
+        verify(eventsRepository).findCapacityByCode(code);
+        verify(eventsRepository, never()).insertParticipant(any(), any());
+    }
+
+    @Test
+    @DisplayName("joinEvent should acknowledge a retried join into an event that is full since")
+    void joinEvent_fullButAlreadyJoined_shouldAcknowledge() {
+        UUID participantId = UUID.randomUUID();
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, 10, 10)));
+        when(eventsRepository.existsParticipantByCode(code, participantId)).thenReturn(true);
+
+        JoinAcknowledgementDto acknowledgement = eventsService.joinEvent(code,
+            jwtFor(participantId));
+
+        assertTrue(acknowledgement.alreadyJoined());
+        verify(eventsRepository, never()).insertParticipant(any(), any());
+    }
+
+    @Test
+    @DisplayName("joinEvent should stop admitting once the database reports the event as full")
+    void joinEvent_databaseFull_shouldCloseAdmission() {
+        when(eventsRepository.findCapacityByCode(code))
+            .thenReturn(Optional.of(new EventCapacity(1L, 10, 5)));
+        when(eventsRepository.insertParticipant(eq(1L), any(UUID.class))).thenReturn(1);
+        when(eventsRepository.incrementParticipantCount(1L)).thenReturn(0);
+
+        assertThrows(EventFullException.class,
+            () -> eventsService.joinEvent(code, jwtFor(UUID.randomUUID())));
+        assertThrows(EventFullException.class,
+            () -> eventsService.joinEvent(code, jwtFor(UUID.randomUUID())));
+
+        verify(eventsRepository).insertParticipant(eq(1L), any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("getEventByCode should read participants from the local profile projection")
+    void getEventByCode_shouldReadParticipantsFromProjection() {
+        UUID participantId = UUID.randomUUID();
         when(eventsRepository.findByCode(code)).thenReturn(Optional.of(eventEntity));
-        when(eventsRepository.save(eventEntity)).thenReturn(eventEntity);
+        when(eventsRepository.findParticipants(1L, Limit.unlimited()))
+            .thenReturn(List.of(participant(participantId)));
 
-        UserResponseDto userResp = new UserResponseDto(
-            participantId, "p@example.com", "P", "User",
-            LocalDate.of(1990, 1, 1), ro.irisinfinity.platform.common.enums.Sex.MALE,
-            null, true, Set.of()
-        );
-        when(usersClient.getUserByExternalId(participantId)).thenReturn(userResp);
+        EventResponseDto resp = eventsService.getEventByCode(code, false);
 
-        Jwt jwt = Jwt.withTokenValue("t")
+        assertEquals(List.of(participant(participantId)), resp.participants());
+    }
+
+    @Test
+    @DisplayName("getEventByCode in summary mode should return the count and skip participants")
+    void getEventByCode_summary_shouldSkipParticipants() {
+        eventEntity.getParticipants().add(UUID.randomUUID());
+        eventEntity.setParticipantCount(1);
+        when(eventsRepository.findByCode(code)).thenReturn(Optional.of(eventEntity));
+
+        EventResponseDto resp = eventsService.getEventByCode(code, true);
+
+        assertEquals(1, resp.participantCount());
+        assertNull(resp.participants());
+        verify(eventsRepository, never()).findParticipants(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("getEventsByCodes should resolve all codes with one query and skip participants")
+    void getEventsByCodes_withoutParticipants_shouldUseOneQuery() {
+        when(eventsRepository.findByCodeIn(Set.of(code, "NOPE")))
+            .thenReturn(List.of(eventEntity));
+
+        List<EventLookupResultDto> results =
+            eventsService.getEventsByCodes(List.of("NOPE", code), false);
+
+        assertEquals(List.of(new EventLookupResultDto("NOPE", false, null)),
+            results.subList(0, 1));
+        assertEquals(code, results.get(1).event().code());
+        assertNull(results.get(1).event().participants());
+        verify(eventsRepository, never()).findParticipantsByEventIdIn(any());
+        verify(eventsRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("getParticipants should return one page and a cursor when more participants exist")
+    void getParticipants_firstPage_shouldReturnNextCursor() {
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        when(eventsRepository.findIdByCode(code)).thenReturn(Optional.of(1L));
+        when(eventsRepository.findParticipants(1L, Limit.of(3)))
+            .thenReturn(ids.stream().map(this::participant).toList());
+
+        CursorPageDto<ParticipantDto> page = eventsService.getParticipants(code, null, 2);
+
+        assertEquals(List.of(ids.get(0), ids.get(1)),
+            page.items().stream().map(ParticipantDto::externalId).toList());
+        assertEquals(Cursors.encode(ids.get(1)), page.nextCursor());
+    }
+
+    @Test
+    @DisplayName("getParticipants should continue after the cursor and end without a next cursor")
+    void getParticipants_lastPage_shouldNotReturnNextCursor() {
+        UUID after = UUID.randomUUID();
+        UUID last = UUID.randomUUID();
+        when(eventsRepository.findIdByCode(code)).thenReturn(Optional.of(1L));
+        when(eventsRepository.findParticipantsAfter(eq(1L), eq(after), any(Limit.class)))
+            .thenReturn(List.of(participant(last)));
+
+        CursorPageDto<ParticipantDto> page =
+            eventsService.getParticipants(code, Cursors.encode(after), 2);
+
+        assertEquals(1, page.items().size());
+        assertNull(page.nextCursor());
+    }
+
+    private Jwt jwtFor(UUID participantId) {
+        return Jwt.withTokenValue("t")
             .header("alg", "none")
             .claim("userId", participantId.toString())
             .build();
+    }
 
-        EventResponseDto resp = eventsService.joinEvent(code, jwt);
-
-        assertEquals(code, resp.code());
-        assertEquals(1, resp.participants().size());
-        assertEquals("p@example.com", resp.participants().getFirst().email());
+    private ParticipantDto participant(UUID externalId) {
+        return new ParticipantDto(externalId, "P", "User");
     }
 }
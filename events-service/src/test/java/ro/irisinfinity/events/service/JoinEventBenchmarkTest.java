@@ -0,0 +1,99 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+/**
+ * Measures join latency against events that already hold a growing number of participants.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class JoinEventBenchmarkTest {
+
+    private static final int SEED_BATCH_SIZE = 5_000;
+    private static final int WARMUP_JOINS = 200;
+    private static final int MEASURED_JOINS = 1_000;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @ParameterizedTest(name = "join into event with {0} participants")
+    @ValueSource(ints = {10, 1_000, 10_000, 100_000})
+    void joinEvent(final int existingParticipants) {
+        String code = "BENCH-" + existingParticipants;
+        eventsService.createEvent(new EventRequestDto(
+            code,
+            "Join benchmark",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(30),
+            new LocationDto("Benchmark Hall " + existingParticipants, "Bucharest"),
+            null
+        ));
+        Long eventId = eventsRepository.findIdByCode(code).orElseThrow();
+        seedParticipants(eventId, existingParticipants);
+
+        for (int i = 0; i < WARMUP_JOINS; i++) {
+            eventsService.joinEvent(code, jwt(UUID.randomUUID()));
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_JOINS; i++) {
+            eventsService.joinEvent(code, jwt(UUID.randomUUID()));
+        }
+        long elapsed = System.nanoTime() - started;
+
+        log.info("join benchmark: participants={}, joins={}, avg={} us/join",
+            existingParticipants, MEASURED_JOINS, elapsed / MEASURED_JOINS / 1_000);
+
+        long expected = existingParticipants + WARMUP_JOINS + MEASURED_JOINS;
+        assertEquals(expected,
+            eventsRepository.findByCode(code).orElseThrow().getParticipantCount());
+    }
+
+    private void seedParticipants(final Long eventId, final int count) {
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            batch.add(new Object[]{eventId, UUID.randomUUID()});
+            if (batch.size() == SEED_BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(
+                    "insert into event_participants (event_id, participant_user_id) values (?, ?)",
+                    batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.update("update events set participant_count = ? where id = ?", count,
+            eventId);
+    }
+
+    private Jwt jwt(final UUID participantUserId) {
+        return Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build();
+    }
+}
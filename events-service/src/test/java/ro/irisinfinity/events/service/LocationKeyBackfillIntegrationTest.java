@@ -0,0 +1,67 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.events.repository.LocationRepository;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class LocationKeyBackfillIntegrationTest {
+
+    @Autowired
+    private LocationKeyBackfill locationKeyBackfill;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void backfill_shouldKeyLikeTheServiceAndMergeVenuesThatFoldTogether() {
+        long original = insertUnkeyed(9001, "Sala Polivalentă", "Str. Uzinei  1", null, null);
+        long duplicate = insertUnkeyed(9002, "sala polivalenta ", "STR. UZINEI 1", 46.77, 23.57);
+        long other = insertUnkeyed(9003, "Łódź Hall", null, null, null);
+        jdbcTemplate.update("""
+            insert into events (id, code, name, date, owner_user_id, location_id,
+                participant_count, version)
+            values (?, ?, ?, ?, ?, ?, 0, 0)
+            """, 9101L, "BACKFILL1", "Backfilled", LocalDate.now().plusDays(1),
+            UUID.randomUUID(), duplicate);
+
+        locationKeyBackfill.backfill();
+
+        Location venue = locationRepository.findByNormalizedKey(
+            LocationService.normalizedKey("Sala Polivalentă", "Str. Uzinei 1")).orElseThrow();
+        assertEquals(original, venue.getId());
+        assertEquals(46.77, venue.getLatitude());
+        assertEquals(23.57, venue.getLongitude());
+        assertFalse(locationRepository.existsById(duplicate));
+        assertEquals(original, jdbcTemplate.queryForObject(
+            "select location_id from events where id = ?", Long.class, 9101L));
+        assertEquals(LocationService.normalizedKey("Łódź Hall", null),
+            locationRepository.findById(other).orElseThrow().getNormalizedKey());
+        assertNull(jdbcTemplate.queryForObject(
+            "select min(id) from locations where normalized_key is null", Long.class));
+    }
+
+    private long insertUnkeyed(final long id, final String name, final String address,
+        final Double latitude, final Double longitude) {
+        jdbcTemplate.update(
+            "insert into locations (id, name, address, latitude, longitude) values (?, ?, ?, ?, ?)",
+            id, name, address, latitude, longitude);
+        return id;
+    }
+}
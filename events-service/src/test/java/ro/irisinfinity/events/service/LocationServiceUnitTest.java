@@ -0,0 +1,121 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.entity.Location;
+import ro.irisinfinity.events.repository.LocationRepository;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+class LocationServiceUnitTest {
+
+    private static final String KEY = "ateneul roman|str. benjamin franklin 1-3, bucuresti";
+
+    private final LocationRepository locationRepository = mock(LocationRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EventChangeFeed eventChangeFeed = mock(EventChangeFeed.class);
+
+    private LocationService locationService;
+    private Location location;
+
+    @BeforeEach
+    void setup() {
+        locationService = new LocationService(locationRepository, jdbcTemplate, eventChangeFeed,
+            new EventsProperties(), new SimpleMeterRegistry());
+
+        location = new Location();
+        location.setId(7L);
+        location.setName("Ateneul Român");
+        location.setAddress("Str. Benjamin Franklin 1-3, București");
+        location.setNormalizedKey(KEY);
+    }
+
+    @Test
+    @DisplayName("normalizedKey should fold case, diacritics and whitespace")
+    void normalizedKey_shouldFold() {
+        assertEquals(KEY, LocationService.normalizedKey(" Ateneul  Român ",
+            "Str. Benjamin Franklin 1-3, BUCUREȘTI"));
+        assertEquals("tech hub|", LocationService.normalizedKey("Tech Hub", null));
+    }
+
+    @Test
+    @DisplayName("resolve should reuse an existing venue and serve repeats from the cache")
+    void resolve_existingVenue_shouldNotInsert() {
+        when(locationRepository.findByNormalizedKey(KEY)).thenReturn(Optional.of(location));
+
+        Location first = locationService.resolve(
+            new LocationDto("Ateneul Român", "Str. Benjamin Franklin 1-3, București"));
+        Location second = locationService.resolve(
+            new LocationDto("ateneul roman", "str. benjamin franklin 1-3, bucuresti"));
+
+        assertSame(location, first);
+        assertSame(location, second);
+        verify(locationRepository, times(1)).findByNormalizedKey(KEY);
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("resolve should insert an unknown venue once and read it back")
+    void resolve_newVenue_shouldInsert() {
+        when(locationRepository.findByNormalizedKey(KEY))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(location));
+
+        Location resolved = locationService.resolve(
+            new LocationDto("Ateneul Român", "Str. Benjamin Franklin 1-3, București"));
+
+        assertSame(location, resolved);
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("resolve should fill in coordinates a cached venue was created without and record "
+        + "a location change for its events")
+    void resolve_existingVenueWithoutCoordinates_shouldFillThemIn() throws Exception {
+        when(locationRepository.findByNormalizedKey(KEY)).thenReturn(Optional.of(location));
+        locationService.resolve(
+            new LocationDto("Ateneul Român", "Str. Benjamin Franklin 1-3, București"));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getObject("latitude", Double.class)).thenReturn(44.44);
+        when(resultSet.getObject("longitude", Double.class)).thenReturn(26.09);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(7L)))
+            .thenAnswer(invocation -> invocation.<RowMapper<Location>>getArgument(1)
+                .mapRow(resultSet, 0));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(7L)))
+            .thenReturn(List.of(11L, 12L));
+
+        Location resolved = locationService.resolve(new LocationDto("Ateneul Român",
+            "Str. Benjamin Franklin 1-3, București", 44.44, 26.09));
+
+        verify(jdbcTemplate).update(anyString(), any(Object[].class));
+        verify(eventChangeFeed).recordAll(EventChangeType.LOCATION_UPDATED, List.of(
+            new EventChangeFeed.Change(11L, null), new EventChangeFeed.Change(12L, null)));
+        assertEquals(7L, resolved.getId());
+        assertEquals(44.44, resolved.getLatitude());
+        assertEquals(26.09, resolved.getLongitude());
+        assertNull(location.getLatitude());
+        assertSame(resolved, locationService.resolve(
+            new LocationDto("ateneul roman", "str. benjamin franklin 1-3, bucuresti")));
+    }
+}
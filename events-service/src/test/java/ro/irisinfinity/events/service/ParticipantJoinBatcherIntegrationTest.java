@@ -0,0 +1,115 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.JoinAcknowledgementDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+@SpringBootTest(properties = {
+    "events.join-batching.enabled=true",
+    "events.join-batching.flush-interval=20ms"
+})
+@ActiveProfiles("test")
+class ParticipantJoinBatcherIntegrationTest {
+
+    private static final String CODE = "BATCH1";
+    private static final int PARTICIPANTS = 300;
+    private static final int THREADS = 64;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void cleanup() {
+        eventsRepository.findIdByCode(CODE).ifPresent(eventId -> {
+            jdbcTemplate.update("delete from event_participants where event_id = ?", eventId);
+            jdbcTemplate.update("delete from events where id = ?", eventId);
+        });
+    }
+
+    @Test
+    void concurrentJoins_shouldBeWrittenInBatches() throws Exception {
+        eventsService.createEvent(new EventRequestDto(
+            CODE,
+            "Batched joins",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(7),
+            new LocationDto("Batch Hall", "Iasi"),
+            null
+        ));
+
+        List<UUID> participants = new ArrayList<>();
+        for (int i = 0; i < PARTICIPANTS; i++) {
+            participants.add(UUID.randomUUID());
+        }
+        List<UUID> attempts = new ArrayList<>(participants);
+        attempts.addAll(participants.subList(0, PARTICIPANTS / 3));
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<JoinAcknowledgementDto>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (UUID participant : attempts) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return eventsService.joinEvent(CODE, jwt(participant));
+                }));
+            }
+            start.countDown();
+        }
+
+        long alreadyJoined = 0;
+        for (Future<JoinAcknowledgementDto> future : futures) {
+            alreadyJoined += future.get().alreadyJoined() ? 1 : 0;
+        }
+
+        Long eventId = eventsRepository.findIdByCode(CODE).orElseThrow();
+        Integer rows = jdbcTemplate.queryForObject(
+            "select count(*) from event_participants where event_id = ?", Integer.class, eventId);
+        Long participantCount = jdbcTemplate.queryForObject(
+            "select participant_count from events where id = ?", Long.class, eventId);
+
+        assertEquals(PARTICIPANTS / 3, alreadyJoined);
+        assertEquals(PARTICIPANTS, rows);
+        assertEquals(PARTICIPANTS, participantCount);
+
+        DistributionSummary batchSize = meterRegistry.get("events.join.batch.size").summary();
+        assertTrue(batchSize.count() < attempts.size());
+        assertEquals(attempts.size(), (long) batchSize.totalAmount());
+    }
+
+    private Jwt jwt(final UUID participantUserId) {
+        return Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build();
+    }
+}
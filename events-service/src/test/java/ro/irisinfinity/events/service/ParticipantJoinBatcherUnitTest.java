@@ -0,0 +1,168 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.platform.common.exception.ServiceUnavailableException;
+
+class ParticipantJoinBatcherUnitTest {
+
+    private static final String FLUSHER_THREAD = "participant-join-batcher";
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch flushStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFlush = new CountDownLatch(1);
+
+    private final EventsProperties properties = new EventsProperties();
+
+    private ParticipantJoinBatcher batcher;
+
+    @BeforeEach
+    void setup() {
+        properties.getJoinBatching().setEnabled(true);
+        properties.getJoinBatching().setQueueCapacity(1);
+        properties.getJoinBatching().setMaxBatchSize(1);
+
+        when(transactionTemplate.execute(any())).thenAnswer(
+            invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals(FLUSHER_THREAD)) {
+                flushStarted.countDown();
+                releaseFlush.await();
+            }
+            List<?> rows = invocation.getArgument(1);
+            int[] counts = new int[rows.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+
+        batcher = new ParticipantJoinBatcher(jdbcTemplate, transactionTemplate,
+            mock(EventChangeFeed.class), properties, meterRegistry);
+        batcher.start();
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        releaseFlush.countDown();
+        batcher.stop();
+    }
+
+    @Test
+    void join_whenQueueIsFull_shouldRejectWithServiceUnavailable() throws Exception {
+        CompletableFuture<Boolean> flushing =
+            CompletableFuture.supplyAsync(() -> batcher.join(1L, UUID.randomUUID()));
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Boolean> queued =
+            CompletableFuture.supplyAsync(() -> batcher.join(1L, UUID.randomUUID()));
+        while (meterRegistry.get("events.join.batch.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> batcher.join(1L, UUID.randomUUID()));
+        assertEquals(1, meterRegistry.get("events.join.batch.rejected").counter().count());
+
+        releaseFlush.countDown();
+        assertTrue(flushing.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void join_whenBatchTakesTooLong_shouldInsertDirectly() throws Exception {
+        properties.getJoinBatching().setWaitTimeout(Duration.ofMillis(50));
+        CompletableFuture<Boolean> flushing =
+            CompletableFuture.supplyAsync(() -> batcher.join(1L, UUID.randomUUID()));
+        assertTrue(flushStarted.await(5, TimeUnit.SECONDS));
+
+        // The flush stays blocked, so both callers give up on it: the queued one takes its join
+        // back, the one whose batch is stuck writes alongside it.
+        assertTrue(batcher.join(1L, UUID.randomUUID()));
+        assertTrue(flushing.get(5, TimeUnit.SECONDS));
+        assertEquals(2, meterRegistry.get("events.join.batch.timeouts").counter().count());
+        assertEquals(0, meterRegistry.get("events.join.batch.queue.depth").gauge().value());
+    }
+
+    @Test
+    void join_whenFlushFailsWithError_shouldFailTheCallerAndKeepFlushing() {
+        releaseFlush.countDown();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenThrow(new LinkageError("driver missing"))
+            .thenReturn(new int[]{1});
+
+        assertThrows(LinkageError.class, () -> batcher.join(1L, UUID.randomUUID()));
+        assertTrue(batcher.join(1L, UUID.randomUUID()));
+    }
+
+    @Test
+    void join_whenDriverReportsNoRowCounts_shouldFailWithoutCountingTheJoin() {
+        releaseFlush.countDown();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+            .thenReturn(new int[]{Statement.SUCCESS_NO_INFO});
+
+        assertThrows(IllegalStateException.class, () -> batcher.join(1L, UUID.randomUUID()));
+        verify(jdbcTemplate, never()).batchUpdate(contains("participant_count"), anyList());
+    }
+
+    @Test
+    void join_batchAcrossEvents_shouldUpdateEventsInIdOrder() throws Exception {
+        releaseFlush.countDown();
+        batcher.stop();
+        properties.getJoinBatching().setQueueCapacity(10);
+        properties.getJoinBatching().setMaxBatchSize(3);
+        properties.getJoinBatching().setFlushInterval(Duration.ofSeconds(5));
+        batcher = new ParticipantJoinBatcher(jdbcTemplate, transactionTemplate,
+            mock(EventChangeFeed.class), properties, meterRegistry);
+        batcher.start();
+
+        List<CompletableFuture<Boolean>> joins = List.of(30L, 10L, 20L).stream()
+            .map(eventId -> CompletableFuture.supplyAsync(
+                () -> batcher.join(eventId, UUID.randomUUID())))
+            .toList();
+        for (CompletableFuture<Boolean> join : joins) {
+            assertTrue(join.get(5, TimeUnit.SECONDS));
+        }
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(contains("participant_count"), rows.capture());
+        assertEquals(List.of(10L, 20L, 30L),
+            rows.getValue().stream().map(row -> row[1]).toList());
+    }
+
+    @Test
+    void join_afterStop_shouldRejectWithServiceUnavailable() throws Exception {
+        releaseFlush.countDown();
+        batcher.stop();
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> batcher.join(1L, UUID.randomUUID()));
+    }
+}
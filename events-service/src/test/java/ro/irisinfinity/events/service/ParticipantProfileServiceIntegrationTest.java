@@ -0,0 +1,83 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.events.entity.ParticipantProfile;
+import ro.irisinfinity.events.repository.ParticipantProfilesRepository;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class ParticipantProfileServiceIntegrationTest {
+
+    @Autowired
+    private ParticipantProfileService participantProfileService;
+
+    @Autowired
+    private ParticipantProfilesRepository participantProfilesRepository;
+
+    @Test
+    void sync_shouldInsertThenOnlyApplyNewerVersions() {
+        UUID externalId = UUID.randomUUID();
+
+        sync(new ParticipantProfileDto(externalId, "Ana", "Pop", 1));
+        sync(new ParticipantProfileDto(externalId, "Ana", "Ionescu", 3));
+        sync(new ParticipantProfileDto(externalId, "Stale", "Push", 2));
+
+        ParticipantProfile profile = participantProfilesRepository.findById(externalId)
+            .orElseThrow();
+        assertEquals("Ana", profile.getFirstName());
+        assertEquals("Ionescu", profile.getLastName());
+        assertEquals(3, profile.getUserVersion());
+    }
+
+    @Test
+    void sync_shouldTombstoneRemovedUsers() {
+        UUID kept = UUID.randomUUID();
+        UUID removed = UUID.randomUUID();
+        sync(new ParticipantProfileDto(kept, "Kept", "User", 0),
+            new ParticipantProfileDto(removed, "Removed", "User", 0));
+
+        participantProfileService.sync(new ParticipantProfilesSyncDto(List.of(), Set.of(removed)));
+
+        assertFalse(participantProfilesRepository.findById(kept).orElseThrow().isDeleted());
+        ParticipantProfile tombstone = participantProfilesRepository.findById(removed)
+            .orElseThrow();
+        assertTrue(tombstone.isDeleted());
+        assertNull(tombstone.getFirstName());
+        assertNull(tombstone.getLastName());
+        assertEquals(1, tombstone.getUserVersion());
+    }
+
+    @Test
+    void sync_afterDeletion_shouldNotResurrectFromLatePush() {
+        UUID known = UUID.randomUUID();
+        UUID unseen = UUID.randomUUID();
+        sync(new ParticipantProfileDto(known, "Known", "User", 1));
+
+        participantProfileService.sync(new ParticipantProfilesSyncDto(List.of(),
+            Set.of(known, unseen)));
+        sync(new ParticipantProfileDto(known, "Known", "Renamed", 5),
+            new ParticipantProfileDto(unseen, "Unseen", "User", 3));
+
+        assertTrue(participantProfilesRepository.findAllById(List.of(known, unseen)).stream()
+            .allMatch(profile -> profile.isDeleted() && profile.getFirstName() == null));
+    }
+
+    private void sync(final ParticipantProfileDto... profiles) {
+        participantProfileService.sync(new ParticipantProfilesSyncDto(List.of(profiles), Set.of()));
+    }
+}
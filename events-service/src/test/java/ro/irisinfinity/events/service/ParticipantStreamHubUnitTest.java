@@ -0,0 +1,202 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ro.irisinfinity.events.config.EventsProperties;
+import ro.irisinfinity.events.repository.EventCapacity;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventChangeDto;
+import ro.irisinfinity.platform.common.dto.events.ParticipantsUpdateDto;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+class ParticipantStreamHubUnitTest {
+
+    private static final String CODE = "STREAM1";
+
+    private final EventsRepository eventsRepository = mock(EventsRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong participantCount = new AtomicLong();
+
+    private final AtomicLong seq = new AtomicLong();
+    private final EventsProperties properties = new EventsProperties();
+
+    private ParticipantStreamHub hub;
+
+    @BeforeEach
+    void setup() {
+        properties.getStreams().setBufferSize(2);
+        properties.getStreams().setMaxJoinedPerMessage(3);
+
+        when(eventsRepository.findCapacityByCode(CODE)).thenAnswer(
+            invocation -> Optional.of(new EventCapacity(1L, null, participantCount.get())));
+
+        hub = new ParticipantStreamHub(eventsRepository, new ObjectMapper(), properties,
+            meterRegistry);
+    }
+
+    @AfterEach
+    void teardown() {
+        hub.stop();
+    }
+
+    @Test
+    void flush_shouldCoalesceBurstIntoOneUpdate() throws Exception {
+        CollectingSink sink = new CollectingSink();
+        hub.subscribe(CODE, sink);
+
+        for (int i = 0; i < 5; i++) {
+            join();
+        }
+        hub.flush();
+        hub.flush();
+
+        ParticipantsUpdateDto update = sink.updates.poll(5, TimeUnit.SECONDS);
+        assertEquals(5, update.joinedCount());
+        assertEquals(5, update.participantCount());
+        assertEquals(3, update.joined().size());
+        assertNull(sink.updates.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void onChangesTailed_shouldOnlyRecordJoinsIntoSubscribedEvents() throws Exception {
+        CollectingSink sink = new CollectingSink();
+        hub.subscribe(CODE, sink);
+
+        hub.onChangesTailed(new EventChangesTailedEvent(List.of(
+            change(EventChangeType.EVENT_CREATED, CODE, null),
+            change(EventChangeType.PARTICIPANT_JOINED, "OTHER", UUID.randomUUID()),
+            change(EventChangeType.PARTICIPANT_JOINED, CODE, UUID.randomUUID()))));
+        hub.flush();
+
+        assertEquals(1, sink.updates.poll(5, TimeUnit.SECONDS).joinedCount());
+        verify(eventsRepository, never()).findCapacityByCode("OTHER");
+    }
+
+    @Test
+    void idleSubscriber_shouldReceiveHeartbeats() throws Exception {
+        hub.stop();
+        properties.getStreams().setHeartbeatInterval(Duration.ofMillis(20));
+        hub = new ParticipantStreamHub(eventsRepository, new ObjectMapper(), properties,
+            meterRegistry);
+        CollectingSink sink = new CollectingSink();
+        hub.subscribe(CODE, sink);
+
+        assertTrue(sink.heartbeats.await(5, TimeUnit.SECONDS));
+        assertTrue(sink.updates.isEmpty());
+    }
+
+    @Test
+    void onChangesTailed_withoutSubscribers_shouldNotTouchRepository() {
+        join();
+        hub.flush();
+
+        verify(eventsRepository, never()).findCapacityByCode(anyString());
+    }
+
+    @Test
+    void slowSubscriber_shouldDropOldestBufferedUpdates() throws Exception {
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch releaseSends = new CountDownLatch(1);
+        CollectingSink sink = new CollectingSink() {
+            @Override
+            public void send(final ParticipantsUpdateDto update) {
+                firstSendStarted.countDown();
+                try {
+                    releaseSends.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(update);
+            }
+        };
+        hub.subscribe(CODE, sink);
+
+        join();
+        hub.flush();
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            join();
+            hub.flush();
+        }
+        releaseSends.countDown();
+
+        List<Long> received = List.of(
+            sink.updates.poll(5, TimeUnit.SECONDS).participantCount(),
+            sink.updates.poll(5, TimeUnit.SECONDS).participantCount(),
+            sink.updates.poll(5, TimeUnit.SECONDS).participantCount());
+        assertEquals(List.of(1L, 4L, 5L), received);
+        assertEquals(2, meterRegistry.counter("events.stream.dropped").count());
+    }
+
+    @Test
+    void close_shouldUnsubscribeAndCloseSink() throws Exception {
+        CollectingSink sink = new CollectingSink();
+        ParticipantStreamHub.Subscription subscription = hub.subscribe(CODE, sink);
+        assertEquals(1, hub.subscriberCount());
+
+        subscription.close();
+        subscription.close();
+        join();
+        hub.flush();
+
+        assertEquals(0, hub.subscriberCount());
+        assertTrue(sink.closed.await(5, TimeUnit.SECONDS));
+        verify(eventsRepository, never()).findCapacityByCode(anyString());
+    }
+
+    private void join() {
+        participantCount.incrementAndGet();
+        hub.onChangesTailed(new EventChangesTailedEvent(List.of(
+            change(EventChangeType.PARTICIPANT_JOINED, CODE, UUID.randomUUID()))));
+    }
+
+    private EventChangeDto change(final EventChangeType type, final String code,
+        final UUID participantUserId) {
+        return new EventChangeDto(seq.incrementAndGet(), type, 1L, code, participantUserId,
+            Instant.now());
+    }
+
+    private static class CollectingSink implements ParticipantStreamHub.Sink {
+
+        final BlockingQueue<ParticipantsUpdateDto> updates = new LinkedBlockingQueue<>();
+        final CountDownLatch heartbeats = new CountDownLatch(2);
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public void send(final ParticipantsUpdateDto update) {
+            updates.add(update);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package ro.irisinfinity.events.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.events.exception.EventFullException;
+import ro.irisinfinity.events.repository.EventsRepository;
+import ro.irisinfinity.platform.common.dto.events.EventRequestDto;
+import ro.irisinfinity.platform.common.dto.events.LocationDto;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SeatAdmissionConcurrencyTest {
+
+    private static final int CAPACITY = 100;
+    private static final int JOIN_ATTEMPTS = 2_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private EventsService eventsService;
+
+    @Autowired
+    private EventsRepository eventsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> createdCodes = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        for (String code : createdCodes) {
+            Long eventId = eventsRepository.findIdByCode(code).orElseThrow();
+            jdbcTemplate.update("delete from event_participants where event_id = ?", eventId);
+            jdbcTemplate.update("delete from events where id = ?", eventId);
+        }
+    }
+
+    @Test
+    void concurrentJoins_shouldNeverExceedCapacity() throws Exception {
+        String code = createEvent("FLASH1");
+
+        AtomicInteger rejected = joinConcurrently(code);
+
+        assertEquals(JOIN_ATTEMPTS - CAPACITY, rejected.get());
+        assertParticipants(code, CAPACITY);
+    }
+
+    @Test
+    void concurrentJoins_withSeatsTakenElsewhere_shouldStillNeverOversell() throws Exception {
+        String code = createEvent("FLASH2");
+        eventsService.joinEvent(code, jwt(UUID.randomUUID()));
+
+        Long eventId = eventsRepository.findIdByCode(code).orElseThrow();
+        int takenElsewhere = CAPACITY / 2;
+        for (int i = 0; i < takenElsewhere; i++) {
+            jdbcTemplate.update(
+                "insert into event_participants (event_id, participant_user_id) values (?, ?)",
+                eventId, UUID.randomUUID());
+        }
+        jdbcTemplate.update(
+            "update events set participant_count = participant_count + ? where id = ?",
+            takenElsewhere, eventId);
+
+        AtomicInteger rejected = joinConcurrently(code);
+
+        assertEquals(JOIN_ATTEMPTS - (CAPACITY - takenElsewhere - 1), rejected.get());
+        assertParticipants(code, CAPACITY);
+    }
+
+    private AtomicInteger joinConcurrently(final String code) throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(JOIN_ATTEMPTS);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < JOIN_ATTEMPTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        eventsService.joinEvent(code, jwt(UUID.randomUUID()));
+                    } catch (EventFullException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return rejected;
+    }
+
+    private void assertParticipants(final String code, final int expected) {
+        Long eventId = eventsRepository.findIdByCode(code).orElseThrow();
+        Integer rows = jdbcTemplate.queryForObject(
+            "select count(*) from event_participants where event_id = ?", Integer.class, eventId);
+        Long participantCount = jdbcTemplate.queryForObject(
+            "select participant_count from events where id = ?", Long.class, eventId);
+
+        assertEquals(expected, rows);
+        assertEquals(expected, participantCount);
+    }
+
+    private String createEvent(final String code) {
+        eventsService.createEvent(new EventRequestDto(
+            code,
+            "Flash sale",
+            UUID.randomUUID(),
+            LocalDate.now().plusDays(7),
+            new LocationDto("Stadium " + code, "Bucharest"),
+            CAPACITY
+        ));
+        createdCodes.add(code);
+        return code;
+    }
+
+    private Jwt jwt(final UUID participantUserId) {
+        return Jwt.withTokenValue("t")
+            .header("alg", "none")
+            .claim("userId", participantUserId.toString())
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package ro.irisinfinity.gateway.config;
+
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+/**
+ * Participant SSE streams are long-lived, so they get their own route ahead of the configured
+ * events route: no response timeout, and headers telling caches and reverse proxies in front of
+ * the gateway not to buffer the stream.
+ */
+@Configuration
+public class EventStreamRouteConfig {
+
+    @Bean
+    RouteLocator eventStreamRoutes(final RouteLocatorBuilder routes) {
+        return routes.routes()
+            .route("events-service-participant-stream", route -> route
+                .order(-1)
+                .method(HttpMethod.GET)
+                .and()
+                .path("/api/v1/events/*/stream")
+                .filters(filters -> filters
+                    .setResponseHeader(HttpHeaders.CACHE_CONTROL, "no-cache")
+                    .setResponseHeader("X-Accel-Buffering", "no"))
+                .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, -1)
+                .uri("lb://events-service"))
+            .build();
+    }
+}
@@ -65,6 +65,8 @@ public class SecurityConfig {
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
             .authorizeExchange(ex -> ex
                 .pathMatchers("/auth/**").permitAll()
+                // Service-to-service endpoints are only reachable inside the cluster.
+                .pathMatchers("/api/v1/internal/**").denyAll()
                 .anyExchange().authenticated()
             )
             .oauth2ResourceServer(oauth -> oauth.jwt(Customizer.withDefaults()))
@@ -25,6 +25,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.server.ResponseStatusException;
 import ro.irisinfinity.platform.common.dto.error.ErrorResponse;
+import ro.irisinfinity.platform.common.exception.ConflictException;
+import ro.irisinfinity.platform.common.exception.ServiceUnavailableException;
 
 @Slf4j
 @RestControllerAdvice
@@ -78,6 +80,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(body);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex,
+        HttpServletRequest request) {
+        HttpStatus status = HttpStatus.CONFLICT;
+
+        ErrorResponse body = new ErrorResponse(
+            Instant.now(),
+            status,
+            ex.getMessage(),
+            request.getRequestURI());
+
+        return ResponseEntity.status(status).body(body);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex,
+        HttpServletRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+
+        ErrorResponse body = new ErrorResponse(
+            Instant.now(),
+            status,
+            ex.getMessage(),
+            request.getRequestURI());
+
+        return ResponseEntity.status(status).body(body);
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex,
         HttpServletRequest request) {
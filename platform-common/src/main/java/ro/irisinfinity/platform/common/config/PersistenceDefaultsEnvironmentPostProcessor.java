@@ -0,0 +1,31 @@
+package ro.irisinfinity.platform.common.config;
+
+import java.util.Map;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * Contributes platform-wide Hibernate defaults with the lowest precedence, so any service or
+ * config-server property still wins. Inserts and updates are grouped into JDBC batches. The id
+ * optimizer is not a default: entities whose sequences JDBC writers share pin pooled-lo on their
+ * own generator, where no property can change it.
+ */
+public class PersistenceDefaultsEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String PROPERTY_SOURCE_NAME = "platformPersistenceDefaults";
+
+    private static final Map<String, Object> DEFAULTS = Map.of(
+        "spring.jpa.properties.hibernate.jdbc.batch_size", 50,
+        "spring.jpa.properties.hibernate.order_inserts", true,
+        "spring.jpa.properties.hibernate.order_updates", true
+    );
+
+    @Override
+    public void postProcessEnvironment(final ConfigurableEnvironment environment,
+        final SpringApplication application) {
+        environment.getPropertySources()
+            .addLast(new MapPropertySource(PROPERTY_SOURCE_NAME, DEFAULTS));
+    }
+}
@@ -0,0 +1,26 @@
+package ro.irisinfinity.platform.common.config;
+
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Feign client configuration for service-to-service calls, applied per client with
+ * {@code @FeignClient(configuration = ServiceTokenFeignConfig.class)}. Deliberately not a
+ * {@code @Configuration}: picked up by component scanning it would apply to every client.
+ */
+public class ServiceTokenFeignConfig {
+
+    @Bean
+    public ServiceTokenRequestInterceptor serviceTokenRequestInterceptor(
+        final Environment environment,
+        @Value("${spring.application.name:unknown}") final String serviceName
+    ) {
+        SecurityProperties.Jwt jwt = Binder.get(environment)
+            .bind("security.jwt", SecurityProperties.Jwt.class)
+            .orElseGet(SecurityProperties.Jwt::new);
+        return new ServiceTokenRequestInterceptor(jwt, serviceName, Clock.systemUTC());
+    }
+}
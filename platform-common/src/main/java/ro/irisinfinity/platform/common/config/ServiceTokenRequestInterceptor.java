@@ -0,0 +1,88 @@
+package ro.irisinfinity.platform.common.config;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import javax.crypto.SecretKey;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Authenticates calls a service makes on its own behalf, such as relays running on background
+ * threads where there is no caller token to forward. Every request carries a short-lived token
+ * signed with the shared access secret, with the service name as subject and the
+ * {@value #SERVICE_ROLE} role. It runs before the token relay, which then leaves the header alone.
+ */
+public class ServiceTokenRequestInterceptor implements RequestInterceptor, Ordered {
+
+    public static final String SERVICE_ROLE = "SERVICE";
+
+    private static final Duration TOKEN_TTL = Duration.ofMinutes(5);
+    private static final Duration RENEW_BEFORE_EXPIRY = Duration.ofMinutes(1);
+
+    private final String secret;
+    private final String issuer;
+    private final String audience;
+    private final String subject;
+    private final String rolesClaim;
+    private final Clock clock;
+
+    private SecretKey key;
+    private String token;
+    private Instant renewAt = Instant.MIN;
+
+    public ServiceTokenRequestInterceptor(final SecurityProperties.Jwt jwt,
+        final String serviceName, final Clock clock) {
+        this.secret = jwt.getSecret();
+        this.issuer = jwt.getIssuer();
+        this.audience = jwt.getAudience();
+        this.subject = "service:" + serviceName;
+        this.rolesClaim = jwt.getRolesClaim();
+        this.clock = clock;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void apply(final RequestTemplate template) {
+        template.removeHeader(HttpHeaders.AUTHORIZATION);
+        template.header(HttpHeaders.AUTHORIZATION, "Bearer " + currentToken());
+    }
+
+    private synchronized String currentToken() {
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(Objects.requireNonNull(secret,
+                "security.jwt.secret is required to issue service tokens").getBytes(UTF_8));
+        }
+        Instant now = clock.instant();
+        if (!now.isBefore(renewAt)) {
+            Instant expiresAt = now.plus(TOKEN_TTL);
+            renewAt = expiresAt.minus(RENEW_BEFORE_EXPIRY);
+            token = Jwts.builder()
+                .header().type("JWT").and()
+                .issuer(issuer)
+                .audience().add(audience).and()
+                .subject(subject)
+                .id(UUID.randomUUID().toString())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(expiresAt))
+                .claim(rolesClaim, List.of(SERVICE_ROLE))
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+        }
+        return token;
+    }
+}
@@ -21,6 +21,9 @@ public class TokenRelayRequestInterceptor {
     @Bean
     public RequestInterceptor jwtRelayInterceptor() {
         return (RequestTemplate template) -> {
+            if (template.headers().containsKey(HttpHeaders.AUTHORIZATION)) {
+                return;
+            }
             String token = resolveCurrentToken();
             if (StringUtils.hasText(token)) {
                 template.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
@@ -0,0 +1,18 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+import java.util.UUID;
+import ro.irisinfinity.platform.common.enums.EventChangeType;
+
+public record EventChangeDto(
+    long seq,
+    EventChangeType type,
+    Long eventId,
+    String eventCode,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    UUID participantUserId,
+    Instant recordedAt
+) {
+
+}
@@ -0,0 +1,10 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import java.util.List;
+
+public record EventChangesPageDto(
+    List<EventChangeDto> changes,
+    long next
+) {
+
+}
@@ -0,0 +1,14 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record EventCodesLookupRequestDto(
+    @NotNull(message = "Codes are mandatory")
+    @Size(max = 500, message = "At most 500 codes can be looked up at once")
+    List<@NotBlank(message = "Code is mandatory") String> codes
+) {
+
+}
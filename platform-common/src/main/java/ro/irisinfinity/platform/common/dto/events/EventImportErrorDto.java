@@ -0,0 +1,9 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+public record EventImportErrorDto(
+    long line,
+    String code,
+    String message
+) {
+
+}
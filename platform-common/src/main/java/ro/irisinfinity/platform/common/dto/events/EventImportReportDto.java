@@ -0,0 +1,13 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import java.util.List;
+
+public record EventImportReportDto(
+    long imported,
+    long duplicates,
+    long rejected,
+    List<EventImportErrorDto> errors,
+    boolean errorsTruncated
+) {
+
+}
@@ -0,0 +1,12 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public record EventLookupResultDto(
+    String code,
+    boolean found,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    EventResponseDto event
+) {
+
+}
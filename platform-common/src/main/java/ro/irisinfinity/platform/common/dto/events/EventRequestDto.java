@@ -4,6 +4,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.FutureOrPresent;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.util.UUID;
@@ -26,7 +27,10 @@ public record EventRequestDto(
     LocalDate date,
 
     @NotNull(message = "Location is mandatory")
-    @Valid LocationDto location
+    @Valid LocationDto location,
+
+    @Positive(message = "Capacity must be positive")
+    Integer capacity
 ) {
 
 }
\ No newline at end of file
@@ -1,9 +1,9 @@
 package ro.irisinfinity.platform.common.dto.events;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
-import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
 
 public record EventResponseDto(
     Long id,
@@ -12,7 +12,10 @@ public record EventResponseDto(
     LocalDate date,
     UUID ownerUserId,
     LocationDto location,
-    List<UserResponseDto> participants
+    Integer capacity,
+    long participantCount,
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    List<ParticipantDto> participants
 ) {
 
 }
\ No newline at end of file
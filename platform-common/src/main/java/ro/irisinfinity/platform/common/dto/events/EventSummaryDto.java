@@ -0,0 +1,17 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record EventSummaryDto(
+    Long id,
+    String code,
+    String name,
+    LocalDate date,
+    UUID ownerUserId,
+    LocationDto location,
+    Integer capacity,
+    long participantCount
+) {
+
+}
@@ -0,0 +1,11 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import java.util.UUID;
+
+public record JoinAcknowledgementDto(
+    String code,
+    UUID participantUserId,
+    boolean alreadyJoined
+) {
+
+}
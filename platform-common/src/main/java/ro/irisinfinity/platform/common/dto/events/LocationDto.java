@@ -1,5 +1,10 @@
 package ro.irisinfinity.platform.common.dto.events;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -10,7 +15,26 @@ public record LocationDto(
     String name,
 
     @Size(max = 255, message = "Address must not exceed 255 characters")
-    String address
+    String address,
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    Double latitude,
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    Double longitude
 ) {
 
-}
\ No newline at end of file
+    public LocationDto(final String name, final String address) {
+        this(name, address, null, null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "Latitude and longitude must be provided together")
+    public boolean isCoordinatesComplete() {
+        return (latitude == null) == (longitude == null);
+    }
+}
@@ -0,0 +1,8 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+public record NearbyEventDto(
+    EventSummaryDto event,
+    double distanceKm
+) {
+
+}
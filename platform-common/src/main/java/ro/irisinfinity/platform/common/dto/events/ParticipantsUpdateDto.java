@@ -0,0 +1,13 @@
+package ro.irisinfinity.platform.common.dto.events;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ParticipantsUpdateDto(
+    String code,
+    long participantCount,
+    int joinedCount,
+    List<UUID> joined
+) {
+
+}
@@ -0,0 +1,10 @@
+package ro.irisinfinity.platform.common.dto.page;
+
+import java.util.List;
+
+public record CursorPageDto<T>(
+    List<T> items,
+    String nextCursor
+) {
+
+}
@@ -0,0 +1,13 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.Set;
+
+public record EmailsLookupRequestDto(
+    @NotNull(message = "Emails are mandatory")
+    @Size(max = 1000, message = "At most 1000 emails can be looked up at once")
+    Set<String> emails
+) {
+
+}
@@ -0,0 +1,12 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.Set;
+import java.util.UUID;
+
+public record ExternalIdsLookupRequestDto(
+    @NotNull(message = "External ids are mandatory")
+    Set<UUID> externalIds
+) {
+
+}
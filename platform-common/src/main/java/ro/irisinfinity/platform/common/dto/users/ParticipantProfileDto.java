@@ -0,0 +1,14 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.UUID;
+
+public record ParticipantProfileDto(
+    @NotNull(message = "External id is mandatory")
+    UUID externalId,
+    String firstName,
+    String lastName,
+    long version
+) {
+
+}
@@ -0,0 +1,16 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+public record ParticipantProfilesSyncDto(
+    @NotNull(message = "Profiles are mandatory")
+    List<@Valid ParticipantProfileDto> profiles,
+    @NotNull(message = "Deleted external ids are mandatory")
+    Set<UUID> deletedExternalIds
+) {
+
+}
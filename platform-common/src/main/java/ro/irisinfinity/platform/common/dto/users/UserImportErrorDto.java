@@ -0,0 +1,9 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+public record UserImportErrorDto(
+    long line,
+    String email,
+    String message
+) {
+
+}
@@ -0,0 +1,13 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import java.util.List;
+
+public record UserImportReportDto(
+    long imported,
+    long duplicates,
+    long rejected,
+    List<UserImportErrorDto> errors,
+    boolean errorsTruncated
+) {
+
+}
@@ -0,0 +1,17 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * Users created in one batch by the bulk import. Passwords are expected to be hashed already.
+ */
+public record UsersBulkCreateRequestDto(
+    @NotNull(message = "Users are mandatory")
+    @Size(max = 1000, message = "At most 1000 users can be created at once")
+    List<@Valid UserRequestDto> users
+) {
+
+}
@@ -0,0 +1,10 @@
+package ro.irisinfinity.platform.common.dto.users;
+
+import java.util.Set;
+
+public record UsersBulkCreateResultDto(
+    long created,
+    Set<String> duplicateEmails
+) {
+
+}
@@ -0,0 +1,5 @@
+package ro.irisinfinity.platform.common.enums;
+
+public enum EventChangeType {
+    EVENT_CREATED, PARTICIPANT_JOINED, LOCATION_UPDATED
+}
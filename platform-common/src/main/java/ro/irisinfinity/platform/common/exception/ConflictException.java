@@ -0,0 +1,16 @@
+package ro.irisinfinity.platform.common.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException() {
+        super();
+    }
+
+    public ConflictException(final String message) {
+        super(message);
+    }
+
+    public ConflictException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
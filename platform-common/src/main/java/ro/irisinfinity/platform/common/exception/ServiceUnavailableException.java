@@ -0,0 +1,16 @@
+package ro.irisinfinity.platform.common.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException() {
+        super();
+    }
+
+    public ServiceUnavailableException(final String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,29 @@
+package ro.irisinfinity.platform.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class TextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private TextNormalizer() {
+    }
+
+    /**
+     * Lower-cases the text, strips diacritics and collapses whitespace, so that "Piața  Unirii" and
+     * "piata unirii" fold to the same value. Returns an empty string for {@code null}.
+     */
+    public static String fold(final String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String withoutMarks = COMBINING_MARKS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("");
+        return WHITESPACE.matcher(withoutMarks).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -3,11 +3,17 @@ package ro.irisinfinity.users;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(
     scanBasePackages = {"ro.irisinfinity.users", "ro.irisinfinity.platform.common"},
     exclude = {ManagementWebSecurityAutoConfiguration.class}
 )
+@EnableFeignClients(basePackages = "ro.irisinfinity.users.client")
+@EnableScheduling
+@ConfigurationPropertiesScan
 public class UsersApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,15 @@
+package ro.irisinfinity.users.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import ro.irisinfinity.platform.common.config.ServiceTokenFeignConfig;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+
+// The relay pushes from background threads, so calls carry a service token, not a user's.
+@FeignClient(name = "events-service", configuration = ServiceTokenFeignConfig.class)
+public interface EventsClient {
+
+    @PutMapping("/api/v1/internal/participant-profiles")
+    void syncParticipantProfiles(@RequestBody final ParticipantProfilesSyncDto sync);
+}
@@ -0,0 +1,23 @@
+package ro.irisinfinity.users.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * The user export is the only asynchronous request this service serves, and a
+ * {@code StreamingResponseBody} takes its timeout from the MVC default rather than per request, so
+ * the default is set from {@code users.export.timeout}.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    private final UsersProperties usersProperties;
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(usersProperties.getExport().getTimeout().toMillis());
+    }
+}
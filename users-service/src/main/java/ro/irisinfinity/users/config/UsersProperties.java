@@ -0,0 +1,24 @@
+package ro.irisinfinity.users.config;
+
+import java.time.Duration;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+
+@Data
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "users")
+public class UsersProperties {
+
+    @NestedConfigurationProperty
+    private Export export = new Export();
+
+    @Data
+    @NoArgsConstructor
+    public static class Export {
+
+        // The whole table is streamed in one response, far past the container's 30s default.
+        private Duration timeout = Duration.ofMinutes(30);
+    }
+}
@@ -4,7 +4,10 @@ import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,8 +19,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.users.service.UserExportService;
 import ro.irisinfinity.users.service.UsersService;
 
 @RestController
@@ -26,6 +33,7 @@ import ro.irisinfinity.users.service.UsersService;
 public class UsersController {
 
     private final UsersService usersService;
+    private final UserExportService userExportService;
 
     @GetMapping
     public Page<UserResponseDto> getUsers(
@@ -35,8 +43,39 @@ public class UsersController {
         return usersService.getUsers(pageNumber, pageSize);
     }
 
+    // Keyset mode for deep paging: no OFFSET scan and no count query. Pass an empty cursor for
+    // the first page.
+    @GetMapping(params = "cursor")
+    public CursorPageDto<UserResponseDto> getUsersByCursor(
+        @RequestParam(name = "cursor") final String cursor,
+        @RequestParam(name = "limit", defaultValue = "50") final int limit
+    ) {
+        return usersService.getUsers(cursor, limit);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+        @RequestParam(name = "format", defaultValue = "ndjson") final String format
+    ) {
+        UserExportService.Format exportFormat = UserExportService.Format.of(format);
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("users." + exportFormat.extension())
+                .build()
+                .toString())
+            .body(outputStream -> userExportService.export(exportFormat, outputStream));
+    }
+
     @GetMapping("/{externalId}")
-    public UserResponseDto getUserByExternalId(@PathVariable("externalId") final UUID externalId) {
+    public UserResponseDto getUserByExternalId(
+        @PathVariable("externalId") final UUID externalId,
+        final WebRequest request
+    ) {
+        if (request.checkNotModified(String.valueOf(usersService.getUserVersion(externalId)))) {
+            return null;
+        }
         return usersService.getUserByExternalId(externalId);
     }
 
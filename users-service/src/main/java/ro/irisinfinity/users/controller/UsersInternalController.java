@@ -1,12 +1,22 @@
 package ro.irisinfinity.users.controller;
 
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
 import ro.irisinfinity.platform.common.dto.auth.EmailLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.EmailsLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.ExternalIdsLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+import ro.irisinfinity.users.service.UserBulkInsertService;
 import ro.irisinfinity.users.service.UsersService;
 
 @RestController
@@ -15,10 +25,32 @@ import ro.irisinfinity.users.service.UsersService;
 public class UsersInternalController {
 
     private final UsersService usersService;
+    private final UserBulkInsertService userBulkInsertService;
 
     @PostMapping("/credentials")
     public CredentialsResponseDto findCredentials(
         @RequestBody final EmailLookupRequestDto emailLookupRequestDto) {
         return usersService.findCredentials(emailLookupRequestDto);
     }
+
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('SERVICE')")
+    public List<UserResponseDto> getUsersByExternalIds(
+        @RequestBody @Valid final ExternalIdsLookupRequestDto externalIdsLookupRequestDto) {
+        return usersService.getUsersByExternalIds(externalIdsLookupRequestDto);
+    }
+
+    @PostMapping("/emails")
+    @PreAuthorize("hasAnyRole('SERVICE','ADMIN')")
+    public Set<String> findExistingEmails(
+        @RequestBody @Valid final EmailsLookupRequestDto emailsLookupRequestDto) {
+        return userBulkInsertService.findExistingEmails(emailsLookupRequestDto.emails());
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('SERVICE','ADMIN')")
+    public UsersBulkCreateResultDto createUsers(
+        @RequestBody @Valid final UsersBulkCreateRequestDto usersBulkCreateRequestDto) {
+        return userBulkInsertService.createUsers(usersBulkCreateRequestDto.users());
+    }
 }
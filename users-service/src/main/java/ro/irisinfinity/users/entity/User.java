@@ -8,10 +8,11 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -20,18 +21,36 @@ import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
 import ro.irisinfinity.platform.common.enums.Role;
 import ro.irisinfinity.platform.common.enums.Sex;
 
 @Entity
 @Getter
 @Setter
-@Table(name = "users")
+@Table(
+    name = "users",
+    indexes = @Index(name = "idx_users_created_at_id", columnList = "created_at, id")
+)
 @NoArgsConstructor
 public class User {
 
+    public static final String ID_SEQUENCE = "users_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // UserBulkInsertService takes id blocks from this sequence with plain JDBC, which relies on
+    // pooled-lo semantics; pinning the optimizer keeps a property override from breaking it.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ID_SEQUENCE)
+    @GenericGenerator(name = ID_SEQUENCE, type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+        @Parameter(name = OptimizableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
     Long id;
 
     @Column(nullable = false, unique = true, updatable = false)
@@ -62,7 +81,12 @@ public class User {
     @Column(nullable = false)
     Boolean enabled = true;
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    Long version;
+
+    @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
         name = "user_roles",
         joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"))
@@ -0,0 +1,43 @@
+package ro.irisinfinity.users.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+@Entity
+@Getter
+@Setter
+@Table(name = "user_profile_changes")
+@NoArgsConstructor
+public class UserProfileChange {
+
+    public static final String ID_SEQUENCE = "user_profile_changes_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Also allocated in blocks by UserBulkInsertService; see User#id for why this is pooled-lo.
+    @Id
+    @GeneratedValue(generator = ID_SEQUENCE)
+    @GenericGenerator(name = ID_SEQUENCE, type = SequenceStyleGenerator.class, parameters = {
+        @Parameter(name = SequenceStyleGenerator.SEQUENCE_PARAM, value = ID_SEQUENCE),
+        @Parameter(name = SequenceStyleGenerator.INCREMENT_PARAM, value = "" + ID_ALLOCATION_SIZE),
+        @Parameter(name = OptimizableGenerator.OPT_PARAM, value = "pooled-lo")
+    })
+    private Long id;
+
+    @Column(name = "external_id", nullable = false)
+    private UUID externalId;
+
+    @Column(name = "recorded_at", nullable = false)
+    private Instant recordedAt;
+}
@@ -0,0 +1,18 @@
+package ro.irisinfinity.users.repository;
+
+import java.util.UUID;
+import ro.irisinfinity.platform.common.enums.Role;
+
+/**
+ * One row per role of a user, as read for a login. A user without roles yields a single row with a
+ * {@code null} role.
+ */
+public record UserCredentialsRow(
+    UUID externalId,
+    String email,
+    String password,
+    Boolean enabled,
+    Role role
+) {
+
+}
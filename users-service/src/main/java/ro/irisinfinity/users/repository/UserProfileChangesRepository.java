@@ -0,0 +1,13 @@
+package ro.irisinfinity.users.repository;
+
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ro.irisinfinity.users.entity.UserProfileChange;
+
+public interface UserProfileChangesRepository extends JpaRepository<UserProfileChange, Long> {
+
+    @Query("select c from UserProfileChange c order by c.id")
+    List<UserProfileChange> findOldest(Limit limit);
+}
@@ -1,18 +1,70 @@
 package ro.irisinfinity.users.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import ro.irisinfinity.users.entity.User;
 
 public interface UsersRepository extends JpaRepository<User, Long>,
 
     PagingAndSortingRepository<User, Long> {
 
+    @EntityGraph(attributePaths = "roles")
     Optional<User> findUserByExternalId(final UUID externalId);
 
+    // Listing is done in two steps, a page of ids and then the users with their roles fetch-joined,
+    // because a collection fetch cannot be limited in SQL.
+    @Query(value = "select u.id from User u order by u.id",
+        countQuery = "select count(u) from User u")
+    Page<Long> findIds(final Pageable pageable);
+
+    @Query("select u.id from User u order by u.createdAt, u.id")
+    List<Long> findIdsOrderByCreatedAt(final Limit limit);
+
+    // The row comparison lets the database seek straight into idx_users_created_at_id; the
+    // equivalent or-expression is not usable as an index range.
+    @Query("""
+        select u.id from User u
+        where (u.createdAt, u.id) > (:createdAt, :id)
+        order by u.createdAt, u.id
+        """)
+    List<Long> findIdsAfter(@Param("createdAt") final LocalDateTime createdAt,
+        @Param("id") final Long id, final Limit limit);
+
+    @Query("select distinct u from User u left join fetch u.roles where u.id in :ids")
+    List<User> findWithRolesByIdIn(@Param("ids") final Collection<Long> ids);
+
+    @Query("select u.version from User u where u.externalId = :externalId")
+    Optional<Long> findVersionByExternalId(@Param("externalId") final UUID externalId);
+
+    List<User> findUsersByExternalIdIn(final Collection<UUID> externalIds);
+
+    @EntityGraph(attributePaths = "roles")
+    List<User> findWithRolesByExternalIdIn(final Collection<UUID> externalIds);
+
     Optional<User> findUserByEmail(final String email);
 
+    @Query("""
+        select new ro.irisinfinity.users.repository.UserCredentialsRow(
+            u.externalId, u.email, u.password, u.enabled, r)
+        from User u left join u.roles r
+        where u.email = :email
+        """)
+    List<UserCredentialsRow> findCredentialsByEmail(@Param("email") final String email);
+
     boolean existsUserByEmail(final String email);
+
+    @Query("select u.email from User u where u.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") final Collection<String> emails);
 }
@@ -0,0 +1,161 @@
+package ro.irisinfinity.users.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+import ro.irisinfinity.users.client.EventsClient;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.entity.UserProfileChange;
+import ro.irisinfinity.users.repository.UserProfileChangesRepository;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+/**
+ * Outbox relay that keeps the participant profiles held by events-service current. User writes
+ * record the external id in their own transaction; after commit, and on a timer for anything a
+ * failed push left behind, pending ids are collapsed, the current state of each user is read and
+ * pushed in one batch, with users that no longer exist pushed as deletions. Outbox rows are only
+ * removed once events-service accepted the batch.
+ *
+ * <p>Commit-triggered drains run on a single relay thread, never on the writing request's thread,
+ * so a slow events-service or a large backlog does not add to user write latency. At most one
+ * drain is queued behind the running one; since every drain empties the outbox, further triggers
+ * are dropped.
+ */
+@Slf4j
+@Component
+public class ParticipantProfileRelay {
+
+    static final int RELAY_BATCH_SIZE = 500;
+
+    private final UserProfileChangesRepository userProfileChangesRepository;
+    private final UsersRepository usersRepository;
+    private final EventsClient eventsClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock relayLock = new ReentrantLock();
+
+    private ThreadPoolExecutor relayExecutor;
+
+    public ParticipantProfileRelay(
+        final UserProfileChangesRepository userProfileChangesRepository,
+        final UsersRepository usersRepository,
+        final EventsClient eventsClient,
+        final PlatformTransactionManager transactionManager
+    ) {
+        this.userProfileChangesRepository = userProfileChangesRepository;
+        this.usersRepository = usersRepository;
+        this.eventsClient = eventsClient;
+        // The relay also runs from after-commit callbacks, where joining the finished transaction
+        // would silently skip the commit.
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    void start() {
+        relayExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1),
+            Thread.ofPlatform().name("participant-profile-relay").daemon().factory(),
+            new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        if (relayExecutor != null) {
+            relayExecutor.shutdownNow();
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(final UUID externalId) {
+        UserProfileChange change = new UserProfileChange();
+        change.setExternalId(externalId);
+        change.setRecordedAt(Instant.now());
+        userProfileChangesRepository.save(change);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(final UserChangedEvent userChangedEvent) {
+        relayExecutor.execute(this::relay);
+    }
+
+    @Scheduled(
+        initialDelayString = "${users.profile-sync.relay-interval:PT10S}",
+        fixedDelayString = "${users.profile-sync.relay-interval:PT10S}"
+    )
+    public void relay() {
+        // Whoever holds the lock keeps draining until the outbox is empty.
+        if (!relayLock.tryLock()) {
+            return;
+        }
+
+        try {
+            Batch batch;
+            do {
+                batch = transactionTemplate.execute(status -> loadBatch());
+                if (batch == null) {
+                    return;
+                }
+                eventsClient.syncParticipantProfiles(batch.sync());
+                List<Long> changeIds = batch.changeIds();
+                transactionTemplate.executeWithoutResult(
+                    status -> userProfileChangesRepository.deleteAllByIdInBatch(changeIds));
+            } while (batch.changeIds().size() == RELAY_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("Failed to push participant profiles to events-service, will retry", e);
+        } finally {
+            relayLock.unlock();
+        }
+    }
+
+    boolean isIdle() {
+        return !relayLock.isLocked() && relayExecutor.getActiveCount() == 0
+            && relayExecutor.getQueue().isEmpty();
+    }
+
+    private Batch loadBatch() {
+        List<UserProfileChange> changes = userProfileChangesRepository.findOldest(
+            Limit.of(RELAY_BATCH_SIZE));
+        if (changes.isEmpty()) {
+            return null;
+        }
+
+        Set<UUID> deletedExternalIds = new LinkedHashSet<>();
+        changes.forEach(change -> deletedExternalIds.add(change.getExternalId()));
+        List<User> users = usersRepository.findUsersByExternalIdIn(
+            new HashSet<>(deletedExternalIds));
+        List<ParticipantProfileDto> profiles = users.stream()
+            .map(user -> new ParticipantProfileDto(user.getExternalId(), user.getFirstName(),
+                user.getLastName(), user.getVersion()))
+            .toList();
+        users.forEach(user -> deletedExternalIds.remove(user.getExternalId()));
+
+        return new Batch(changes.stream().map(UserProfileChange::getId).toList(),
+            new ParticipantProfilesSyncDto(profiles, deletedExternalIds));
+    }
+
+    private record Batch(List<Long> changeIds, ParticipantProfilesSyncDto sync) {
+
+    }
+}
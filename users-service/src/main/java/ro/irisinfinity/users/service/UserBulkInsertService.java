@@ -0,0 +1,147 @@
+package ro.irisinfinity.users.service;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.entity.UserProfileChange;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+/**
+ * Batch counterpart of {@link UsersService#createUser} for the bulk import. Emails repeated within
+ * the batch or already registered are skipped with one lookup per batch, and the remaining users,
+ * their default role and their profile outbox rows are written as three JDBC batches in one
+ * transaction. An email registered concurrently between the lookup and the insert is caught by the
+ * unique constraint and reported as a duplicate as well.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkInsertService {
+
+    private static final String INSERT_USER_SQL = """
+        insert into users
+            (id, external_id, email, password, first_name, last_name, birth_date, sex,
+             created_at, enabled, version)
+        values (?, ?, ?, ?, ?, ?, ?, ?, ?, true, 0)
+        on conflict do nothing
+        """;
+    private static final String INSERT_ROLE_SQL =
+        "insert into user_roles (user_id, role) values (?, ?)";
+    private static final String INSERT_PROFILE_CHANGE_SQL =
+        "insert into user_profile_changes (id, external_id, recorded_at) values (?, ?, ?)";
+
+    private final UsersRepository usersRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public Set<String> findExistingEmails(final Collection<String> emails) {
+        return emails.isEmpty() ? Set.of() : usersRepository.findExistingEmails(emails);
+    }
+
+    @Transactional
+    public UsersBulkCreateResultDto createUsers(final List<UserRequestDto> users) {
+        Set<String> duplicateEmails = new LinkedHashSet<>();
+        Map<String, UserRequestDto> usersByEmail = new LinkedHashMap<>();
+        for (UserRequestDto user : users) {
+            if (usersByEmail.putIfAbsent(user.email(), user) != null) {
+                duplicateEmails.add(user.email());
+            }
+        }
+        Set<String> existingEmails = findExistingEmails(usersByEmail.keySet());
+        duplicateEmails.addAll(existingEmails);
+        usersByEmail.keySet().removeAll(existingEmails);
+
+        List<UserRequestDto> candidates = List.copyOf(usersByEmail.values());
+        long[] ids = allocateIds(User.ID_SEQUENCE, User.ID_ALLOCATION_SIZE, candidates.size());
+        UUID[] externalIds = new UUID[candidates.size()];
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<Object[]> userRows = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            UserRequestDto user = candidates.get(i);
+            externalIds[i] = UUID.randomUUID();
+            userRows.add(new Object[]{
+                ids[i],
+                externalIds[i],
+                user.email(),
+                user.password(),
+                user.firstName(),
+                user.lastName(),
+                user.birthDate(),
+                user.sex().name(),
+                createdAt
+            });
+        }
+
+        int[] rowCounts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, userRows);
+
+        List<Object[]> roleRows = new ArrayList<>(candidates.size());
+        List<UUID> created = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (rowCounts[i] > 0) {
+                roleRows.add(new Object[]{ids[i], Role.USER.name()});
+                created.add(externalIds[i]);
+            } else {
+                duplicateEmails.add(candidates.get(i).email());
+            }
+        }
+        if (created.isEmpty()) {
+            return new UsersBulkCreateResultDto(0, duplicateEmails);
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ROLE_SQL, roleRows);
+        recordProfileChanges(created);
+        // One notification is enough: the relay drains every pending outbox row.
+        eventPublisher.publishEvent(new UserChangedEvent(created.getFirst()));
+
+        log.info("Users created in bulk: created={}, duplicates={}", created.size(),
+            duplicateEmails.size());
+        return new UsersBulkCreateResultDto(created.size(), duplicateEmails);
+    }
+
+    private void recordProfileChanges(final List<UUID> externalIds) {
+        long[] ids = allocateIds(UserProfileChange.ID_SEQUENCE,
+            UserProfileChange.ID_ALLOCATION_SIZE, externalIds.size());
+        Timestamp recordedAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(externalIds.size());
+        for (int i = 0; i < externalIds.size(); i++) {
+            rows.add(new Object[]{ids[i], externalIds.get(i), recordedAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PROFILE_CHANGE_SQL, rows);
+    }
+
+    /**
+     * Takes ids straight from an entity's sequence. With the pooled-lo optimizer every fetched
+     * value starts a block of {@code allocationSize} ids owned by the caller alone.
+     */
+    private long[] allocateIds(final String sequence, final int allocationSize, final int count) {
+        long[] ids = new long[count];
+        int allocated = 0;
+        while (allocated < count) {
+            long low = jdbcTemplate.queryForObject("select nextval('" + sequence + "')",
+                Long.class);
+            for (long id = low; id < low + allocationSize && allocated < count; id++) {
+                ids[allocated++] = id;
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,9 @@
+package ro.irisinfinity.users.service;
+
+import java.util.UUID;
+
+public record UserChangedEvent(
+    UUID externalId
+) {
+
+}
@@ -0,0 +1,237 @@
+package ro.irisinfinity.users.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.platform.common.enums.Sex;
+
+/**
+ * Full export of the users table. Rows are read through a forward-only cursor in
+ * {@value #FETCH_SIZE}-row fetches, with roles aggregated by the query, and each row is written to
+ * the response as soon as it is read, so memory use does not depend on the table size. The
+ * surrounding read-only transaction is what lets the PostgreSQL driver honour the fetch size
+ * instead of buffering the whole result.
+ */
+@Slf4j
+@Service
+public class UserExportService {
+
+    static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL = """
+        select u.external_id, u.email, u.first_name, u.last_name, u.birth_date, u.sex,
+               u.created_at, u.enabled,
+               (select string_agg(r.role, ',' order by r.role)
+                from user_roles r where r.user_id = u.id) as roles
+        from users u
+        order by u.id
+        """;
+
+    private static final String CSV_HEADER =
+        "externalId,email,firstName,lastName,birthDate,sex,createdAt,enabled,roles";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectWriter objectWriter;
+
+    public UserExportService(final DataSource dataSource, final ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.objectWriter = objectMapper.writer()
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n");
+    }
+
+    @Transactional(readOnly = true)
+    public long export(final Format format, final OutputStream outputStream) {
+        try (RowWriter writer = format == Format.CSV
+            ? new CsvRowWriter(outputStream)
+            : new NdjsonRowWriter(objectWriter, outputStream)) {
+            long[] rows = {0};
+            jdbcTemplate.query(EXPORT_SQL, resultSet -> {
+                try {
+                    writer.write(toResponseDto(resultSet));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            log.info("Users exported: format={}, rows={}", format, rows[0]);
+            return rows[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static UserResponseDto toResponseDto(final ResultSet resultSet) throws SQLException {
+        String roles = resultSet.getString("roles");
+        return new UserResponseDto(
+            resultSet.getObject("external_id", UUID.class),
+            resultSet.getString("email"),
+            resultSet.getString("first_name"),
+            resultSet.getString("last_name"),
+            resultSet.getObject("birth_date", LocalDate.class),
+            Sex.valueOf(resultSet.getString("sex")),
+            resultSet.getObject("created_at", LocalDateTime.class),
+            resultSet.getBoolean("enabled"),
+            roles == null
+                ? Set.of()
+                : Arrays.stream(roles.split(","))
+                    .map(Role::valueOf)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(Role.class)))
+        );
+    }
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(final MediaType mediaType, final String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public static Format of(final String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "format must be one of: ndjson, csv");
+            }
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+
+        void write(UserResponseDto user) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private final SequenceWriter sequenceWriter;
+        private final OutputStream outputStream;
+        private boolean empty = true;
+
+        private NdjsonRowWriter(final ObjectWriter objectWriter, final OutputStream outputStream)
+            throws IOException {
+            this.sequenceWriter = objectWriter.writeValues(outputStream);
+            this.outputStream = outputStream;
+        }
+
+        @Override
+        public void write(final UserResponseDto user) throws IOException {
+            sequenceWriter.write(user);
+            empty = false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            sequenceWriter.close();
+            if (!empty) {
+                outputStream.write('\n');
+            }
+            outputStream.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(final OutputStream outputStream) throws IOException {
+            this.writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(final UserResponseDto user) throws IOException {
+            field(user.externalId());
+            separator();
+            field(user.email());
+            separator();
+            field(user.firstName());
+            separator();
+            field(user.lastName());
+            separator();
+            field(user.birthDate());
+            separator();
+            field(user.sex());
+            separator();
+            field(user.createdAt());
+            separator();
+            field(user.enabled());
+            separator();
+            field(user.roles().stream().map(Role::name).sorted().collect(Collectors.joining(",")));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private void separator() throws IOException {
+            writer.write(',');
+        }
+
+        private void field(final Object value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0
+                && text.indexOf('\r') < 0) {
+                writer.write(text);
+                return;
+            }
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
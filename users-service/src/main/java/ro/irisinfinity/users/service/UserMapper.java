@@ -0,0 +1,64 @@
+package ro.irisinfinity.users.service;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.repository.UserCredentialsRow;
+
+/**
+ * Plain field-by-field mapping between {@link User} and its DTOs. Replaces
+ * {@code ObjectMapper.convertValue}, which serialized every user into a token buffer and parsed it
+ * back; a field added on either side now fails to compile here instead of being silently dropped.
+ */
+final class UserMapper {
+
+    private UserMapper() {
+    }
+
+    static UserResponseDto toResponseDto(final User user) {
+        return new UserResponseDto(
+            user.getExternalId(),
+            user.getEmail(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getBirthDate(),
+            user.getSex(),
+            user.getCreatedAt(),
+            user.getEnabled(),
+            Set.copyOf(user.getRoles())
+        );
+    }
+
+    static CredentialsResponseDto toCredentialsDto(final List<UserCredentialsRow> rows) {
+        UserCredentialsRow first = rows.getFirst();
+        Set<Role> roles = EnumSet.noneOf(Role.class);
+        rows.forEach(row -> {
+            if (row.role() != null) {
+                roles.add(row.role());
+            }
+        });
+        return new CredentialsResponseDto(
+            first.externalId(),
+            first.email(),
+            first.password(),
+            first.enabled(),
+            Set.copyOf(roles)
+        );
+    }
+
+    static User toEntity(final UserRequestDto userRequestDto) {
+        User user = new User();
+        user.setEmail(userRequestDto.email());
+        user.setPassword(userRequestDto.password());
+        user.setFirstName(userRequestDto.firstName());
+        user.setLastName(userRequestDto.lastName());
+        user.setBirthDate(userRequestDto.birthDate());
+        user.setSex(userRequestDto.sex());
+        return user;
+    }
+}
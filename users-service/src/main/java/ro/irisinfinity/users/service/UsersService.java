@@ -1,22 +1,34 @@
 package ro.irisinfinity.users.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
 import ro.irisinfinity.platform.common.dto.auth.EmailLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.dto.users.ExternalIdsLookupRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.util.Cursors;
 import ro.irisinfinity.users.entity.User;
 import ro.irisinfinity.users.exception.UserAlreadyExistsException;
 import ro.irisinfinity.users.exception.UserNotFoundException;
+import ro.irisinfinity.users.repository.UserCredentialsRow;
 import ro.irisinfinity.users.repository.UsersRepository;
 
 @Slf4j
@@ -24,32 +36,81 @@ import ro.irisinfinity.users.repository.UsersRepository;
 @RequiredArgsConstructor
 public class UsersService {
 
+    static final int EXTERNAL_IDS_CHUNK_SIZE = 1000;
+    static final int MAX_USERS_PAGE_SIZE = 200;
+
     private final UsersRepository usersRepository;
-    private final ObjectMapper objectMapper;
+    private final ParticipantProfileRelay participantProfileRelay;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public Page<UserResponseDto> getUsers(final int pageNumber, final int pageSize) {
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
-        Page<User> userPage = usersRepository.findAll(pageable);
-        return userPage.map(user -> objectMapper.convertValue(user, UserResponseDto.class));
+        Page<Long> idPage = usersRepository.findIds(pageable);
+        return new PageImpl<>(findWithRoles(idPage.getContent()), pageable,
+            idPage.getTotalElements()).map(UserMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserResponseDto> getUsers(final String cursor, final int limit) {
+        UserKey after = Cursors.decode(cursor, 2,
+            keys -> new UserKey(LocalDateTime.parse(keys[0]), Long.valueOf(keys[1])));
+        int pageSize = Math.clamp(limit, 1, MAX_USERS_PAGE_SIZE);
+
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<Long> ids = after == null
+            ? usersRepository.findIdsOrderByCreatedAt(fetchLimit)
+            : usersRepository.findIdsAfter(after.createdAt(), after.id(), fetchLimit);
+        List<User> users = findWithRoles(ids);
+
+        boolean hasNext = users.size() > pageSize;
+        List<User> page = hasNext ? users.subList(0, pageSize) : users;
+
+        String nextCursor = hasNext
+            ? Cursors.encode(page.getLast().getCreatedAt(), page.getLast().getId())
+            : null;
+        return new CursorPageDto<>(page.stream().map(UserMapper::toResponseDto).toList(),
+            nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUserVersion(final UUID externalId) {
+        return usersRepository.findVersionByExternalId(externalId)
+            .orElseThrow(UserNotFoundException::new);
     }
 
     @Transactional(readOnly = true)
     public UserResponseDto getUserByExternalId(final UUID externalId) {
         Optional<User> userOptional = usersRepository.findUserByExternalId(externalId);
         return userOptional
-            .map(user -> objectMapper.convertValue(user, UserResponseDto.class))
+            .map(UserMapper::toResponseDto)
             .orElseThrow(UserNotFoundException::new);
     }
 
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> getUsersByExternalIds(
+        final ExternalIdsLookupRequestDto externalIdsLookupRequestDto) {
+        List<UUID> externalIds = List.copyOf(externalIdsLookupRequestDto.externalIds());
+        List<UserResponseDto> users = new ArrayList<>(externalIds.size());
+
+        for (int from = 0; from < externalIds.size(); from += EXTERNAL_IDS_CHUNK_SIZE) {
+            int to = Math.min(from + EXTERNAL_IDS_CHUNK_SIZE, externalIds.size());
+            usersRepository.findWithRolesByExternalIdIn(externalIds.subList(from, to))
+                .forEach(user -> users.add(UserMapper.toResponseDto(user)));
+        }
+
+        return users;
+    }
+
     @Transactional(readOnly = true)
     public CredentialsResponseDto findCredentials(
         final EmailLookupRequestDto emailLookupRequestDto) {
-        String email = emailLookupRequestDto.email();
-        Optional<User> userOptional = usersRepository.findUserByEmail(email);
-        return userOptional
-            .map(user -> objectMapper.convertValue(user, CredentialsResponseDto.class))
-            .orElseThrow(UserNotFoundException::new);
+        List<UserCredentialsRow> rows = usersRepository.findCredentialsByEmail(
+            emailLookupRequestDto.email());
+        if (rows.isEmpty()) {
+            throw new UserNotFoundException();
+        }
+        return UserMapper.toCredentialsDto(rows);
     }
 
     @Transactional
@@ -60,11 +121,12 @@ public class UsersService {
             throw new UserAlreadyExistsException("Email already registered: " + userEmail);
         }
 
-        User user = objectMapper.convertValue(userRequestDto, User.class);
+        User user = UserMapper.toEntity(userRequestDto);
         User savedUser = usersRepository.save(user);
+        publishProfileChange(savedUser.getExternalId());
 
         log.info("User created successfully: email={}", savedUser.getEmail());
-        return objectMapper.convertValue(savedUser, UserResponseDto.class);
+        return UserMapper.toResponseDto(savedUser);
     }
 
     @Transactional
@@ -88,9 +150,10 @@ public class UsersService {
         currentUser.setSex(userRequestDto.sex());
 
         User updatedUser = usersRepository.save(currentUser);
+        publishProfileChange(externalId);
 
         log.info("User updated successfully: id={}", updatedUser.getId());
-        return objectMapper.convertValue(updatedUser, UserResponseDto.class);
+        return UserMapper.toResponseDto(updatedUser);
     }
 
     @Transactional
@@ -98,6 +161,32 @@ public class UsersService {
         Optional<User> userOptional = usersRepository.findUserByExternalId(externalId);
         Long userId = userOptional.map(User::getId).orElseThrow(UserNotFoundException::new);
         usersRepository.deleteById(userId);
+        publishProfileChange(externalId);
         log.info("User deleted successfully: id={}", userId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Loads users with their roles in one query, in the order of {@code ids}.
+     */
+    private List<User> findWithRoles(final List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, User> usersById = new HashMap<>(ids.size());
+        usersRepository.findWithRolesByIdIn(ids).forEach(user -> usersById.put(user.getId(), user));
+        return ids.stream()
+            .map(usersById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void publishProfileChange(final UUID externalId) {
+        participantProfileRelay.record(externalId);
+        eventPublisher.publishEvent(new UserChangedEvent(externalId));
+    }
+
+    private record UserKey(LocalDateTime createdAt, Long id) {
+
+    }
+}
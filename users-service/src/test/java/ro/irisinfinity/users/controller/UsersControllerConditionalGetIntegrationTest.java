@@ -0,0 +1,89 @@
+package ro.irisinfinity.users.controller;
+
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.repository.UsersRepository;
+import ro.irisinfinity.users.service.UsersService;
+
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@Transactional
+@ActiveProfiles("test")
+class UsersControllerConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UsersService usersService;
+
+    @SpyBean
+    private UsersRepository usersRepository;
+
+    @Test
+    void getUser_withMatchingETag_shouldAnswerNotModifiedFromVersionOnly() throws Exception {
+        UserResponseDto user = createUser("etag@example.com");
+        String eTag = mockMvc.perform(get("/api/v1/users/{id}", user.externalId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Mockito.clearInvocations(usersRepository);
+
+        mockMvc.perform(get("/api/v1/users/{id}", user.externalId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(content().string(""));
+
+        verify(usersRepository, times(1)).findVersionByExternalId(user.externalId());
+        verify(usersRepository, never()).findUserByExternalId(any(UUID.class));
+    }
+
+    @Test
+    void getUser_afterUpdate_shouldRevalidateWithNewETag() throws Exception {
+        UserResponseDto user = createUser("etag-update@example.com");
+        String eTag = mockMvc.perform(get("/api/v1/users/{id}", user.externalId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        usersService.updateUser(user.externalId(), new UserRequestDto(
+            "etag-update@example.com", "Password123!", "Renamed", "User",
+            LocalDate.of(1990, 1, 1), Sex.FEMALE
+        ));
+        usersRepository.flush();
+
+        mockMvc.perform(get("/api/v1/users/{id}", user.externalId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    private UserResponseDto createUser(final String email) {
+        return usersService.createUser(new UserRequestDto(
+            email, "Password123!", "ETag", "User",
+            LocalDate.of(1990, 1, 1), Sex.FEMALE
+        ));
+    }
+}
@@ -0,0 +1,47 @@
+package ro.irisinfinity.users.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "users.export.timeout=PT45M")
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class UsersControllerExportIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void exportUsers_shouldStreamWithTheConfiguredTimeout() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/users/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        assertEquals(Duration.ofMinutes(45).toMillis(),
+            started.getRequest().getAsyncContext().getTimeout());
+
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"users.csv\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        assertTrue(body.startsWith("externalId,email,firstName,lastName,birthDate,sex,"));
+    }
+}
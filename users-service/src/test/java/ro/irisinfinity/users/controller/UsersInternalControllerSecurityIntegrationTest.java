@@ -0,0 +1,137 @@
+package ro.irisinfinity.users.controller;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import feign.RequestTemplate;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import ro.irisinfinity.platform.common.config.SecurityProperties;
+import ro.irisinfinity.platform.common.config.ServiceTokenRequestInterceptor;
+
+@SpringBootTest(properties = {
+    "spring.autoconfigure.exclude=",
+    "security.jwt.secret=" + UsersInternalControllerSecurityIntegrationTest.SECRET
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UsersInternalControllerSecurityIntegrationTest {
+
+    static final String SECRET = "users-internal-test-secret-0123456789abcdef";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void getUsersByExternalIds_withServiceToken_shouldBeAccepted() throws Exception {
+        mockMvc.perform(batch().header(HttpHeaders.AUTHORIZATION, serviceToken()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void getUsersByExternalIds_withUserToken_shouldBeForbidden() throws Exception {
+        mockMvc.perform(batch().header(HttpHeaders.AUTHORIZATION, userToken("USER", "ADMIN")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void getUsersByExternalIds_withoutToken_shouldBeUnauthorized() throws Exception {
+        mockMvc.perform(batch())
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void findExistingEmails_withServiceOrAdminToken_shouldBeAccepted() throws Exception {
+        mockMvc.perform(emails().header(HttpHeaders.AUTHORIZATION, serviceToken()))
+            .andExpect(status().isOk());
+        mockMvc.perform(emails().header(HttpHeaders.AUTHORIZATION, userToken("ADMIN")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void findExistingEmails_withUserToken_shouldBeForbidden() throws Exception {
+        mockMvc.perform(emails().header(HttpHeaders.AUTHORIZATION, userToken("USER")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void createUsers_withServiceOrAdminToken_shouldBeAccepted() throws Exception {
+        mockMvc.perform(bulk().header(HttpHeaders.AUTHORIZATION, serviceToken()))
+            .andExpect(status().isOk());
+        mockMvc.perform(bulk().header(HttpHeaders.AUTHORIZATION, userToken("ADMIN")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void createUsers_withUserToken_shouldBeForbidden() throws Exception {
+        mockMvc.perform(bulk().header(HttpHeaders.AUTHORIZATION, userToken("USER")))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void createUsers_withoutToken_shouldBeUnauthorized() throws Exception {
+        mockMvc.perform(bulk())
+            .andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletRequestBuilder batch() {
+        return post("/api/v1/internal/users/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"externalIds": []}
+                """);
+    }
+
+    private MockHttpServletRequestBuilder emails() {
+        return post("/api/v1/internal/users/emails")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"emails": []}
+                """);
+    }
+
+    private MockHttpServletRequestBuilder bulk() {
+        return post("/api/v1/internal/users/bulk")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"users": []}
+                """);
+    }
+
+    private static String serviceToken() {
+        SecurityProperties.Jwt jwt = new SecurityProperties.Jwt();
+        jwt.setSecret(SECRET);
+        RequestTemplate template = new RequestTemplate();
+        new ServiceTokenRequestInterceptor(jwt, "events-service", Clock.systemUTC())
+            .apply(template);
+        return template.headers().get(HttpHeaders.AUTHORIZATION).iterator().next();
+    }
+
+    private static String userToken(final String... roles) {
+        Instant now = Instant.now();
+        return "Bearer " + Jwts.builder()
+            .issuer("auth-service")
+            .audience().add("irisinfinity").and()
+            .subject("user@example.com")
+            .issuedAt(Date.from(now))
+            .expiration(Date.from(now.plus(5, ChronoUnit.MINUTES)))
+            .claim("roles", List.of(roles))
+            .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(UTF_8)), Jwts.SIG.HS256)
+            .compact();
+    }
+}
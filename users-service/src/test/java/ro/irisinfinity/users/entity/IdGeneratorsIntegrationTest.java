@@ -0,0 +1,34 @@
+package ro.irisinfinity.users.entity;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.PooledLoOptimizer;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties =
+    "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled")
+@ActiveProfiles("test")
+class IdGeneratorsIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ParameterizedTest
+    @ValueSource(classes = {User.class, UserProfileChange.class})
+    void idGenerator_whenAnotherOptimizerIsPreferred_shouldStayPooledLo(final Class<?> entity) {
+        SequenceStyleGenerator generator = (SequenceStyleGenerator) entityManagerFactory
+            .unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .getEntityDescriptor(entity)
+            .getGenerator();
+
+        assertInstanceOf(PooledLoOptimizer.class, generator.getOptimizer());
+    }
+}
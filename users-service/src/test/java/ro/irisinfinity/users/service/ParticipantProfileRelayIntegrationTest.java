@@ -0,0 +1,144 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfileDto;
+import ro.irisinfinity.platform.common.dto.users.ParticipantProfilesSyncDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.client.EventsClient;
+import ro.irisinfinity.users.repository.UserProfileChangesRepository;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+// Not @Transactional: the relay only sees committed outbox rows.
+@SpringBootTest
+@ActiveProfiles("test")
+class ParticipantProfileRelayIntegrationTest {
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private ParticipantProfileRelay participantProfileRelay;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private UserProfileChangesRepository userProfileChangesRepository;
+
+    @MockBean
+    private EventsClient eventsClient;
+
+    @AfterEach
+    void cleanup() {
+        usersRepository.deleteAll();
+        userProfileChangesRepository.deleteAll();
+    }
+
+    @Test
+    void userWrites_shouldPushProfilesAfterCommitAndDrainTheOutbox()
+        throws InterruptedException {
+        UUID externalId = usersService.createUser(request("Relay")).externalId();
+        awaitOutboxDrained();
+        usersService.updateUser(externalId, request("Renamed"));
+        awaitOutboxDrained();
+        usersService.deleteUser(externalId);
+        awaitOutboxDrained();
+
+        ArgumentCaptor<ParticipantProfilesSyncDto> pushed =
+            ArgumentCaptor.forClass(ParticipantProfilesSyncDto.class);
+        verify(eventsClient, times(3)).syncParticipantProfiles(pushed.capture());
+        List<ParticipantProfilesSyncDto> syncs = pushed.getAllValues();
+
+        assertEquals(List.of(new ParticipantProfileDto(externalId, "Relay", "User", 0)),
+            syncs.get(0).profiles());
+        assertEquals("Renamed", syncs.get(1).profiles().getFirst().firstName());
+        assertEquals(1, syncs.get(1).profiles().getFirst().version());
+        assertEquals(List.of(), syncs.get(2).profiles());
+        assertEquals(Set.of(externalId), syncs.get(2).deletedExternalIds());
+    }
+
+    @Test
+    void userWrites_shouldNotWaitForThePush() throws InterruptedException {
+        CountDownLatch pushStarted = new CountDownLatch(1);
+        CountDownLatch releasePush = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            pushStarted.countDown();
+            releasePush.await();
+            return null;
+        }).when(eventsClient).syncParticipantProfiles(any());
+
+        try {
+            usersService.createUser(request("Slow"));
+            assertTrue(pushStarted.await(5, TimeUnit.SECONDS));
+            // The write returned while the push is still blocked on the relay thread.
+            assertEquals(1, userProfileChangesRepository.count());
+        } finally {
+            releasePush.countDown();
+        }
+        awaitOutboxDrained();
+    }
+
+    @Test
+    void relay_shouldKeepChangesWhenThePushFailsAndRetryThem() throws InterruptedException {
+        doThrow(new IllegalStateException("events-service down"))
+            .when(eventsClient).syncParticipantProfiles(any());
+        UUID first = usersService.createUser(request("First")).externalId();
+        UUID second = usersService.createUser(request("Second")).externalId();
+        awaitRelayIdle();
+        assertEquals(2, userProfileChangesRepository.count());
+
+        reset(eventsClient);
+        participantProfileRelay.relay();
+
+        ArgumentCaptor<ParticipantProfilesSyncDto> pushed =
+            ArgumentCaptor.forClass(ParticipantProfilesSyncDto.class);
+        verify(eventsClient).syncParticipantProfiles(pushed.capture());
+        assertEquals(Set.of(first, second), Set.copyOf(pushed.getValue().profiles().stream()
+            .map(ParticipantProfileDto::externalId).toList()));
+        assertTrue(pushed.getValue().deletedExternalIds().isEmpty());
+        assertEquals(0, userProfileChangesRepository.count());
+    }
+
+    private void awaitOutboxDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (userProfileChangesRepository.count() > 0) {
+            assertTrue(System.nanoTime() < deadline, "Outbox was not drained");
+            Thread.sleep(20);
+        }
+    }
+
+    private void awaitRelayIdle() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!participantProfileRelay.isIdle()) {
+            assertTrue(System.nanoTime() < deadline, "Relay did not finish");
+            Thread.sleep(20);
+        }
+    }
+
+    private static UserRequestDto request(final String firstName) {
+        return new UserRequestDto(firstName.toLowerCase() + "@relay.example.com", "Password123!",
+            firstName, "User", LocalDate.of(1990, 1, 1), Sex.FEMALE);
+    }
+}
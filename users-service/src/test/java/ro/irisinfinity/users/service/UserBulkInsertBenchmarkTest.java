@@ -0,0 +1,78 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.client.EventsClient;
+
+/**
+ * Measures insert throughput of the bulk import path: email lookup plus JDBC batches for users,
+ * roles and outbox rows, one transaction per chunk, followed by the after-commit relay push to a
+ * mocked events-service. Compare with {@link UserInsertBenchmarkTest}. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UserBulkInsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 50_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private UserBulkInsertService userBulkInsertService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private EventsClient eventsClient;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from user_profile_changes");
+        jdbcTemplate.update("delete from user_roles");
+        jdbcTemplate.update("delete from users");
+    }
+
+    @Test
+    void bulkInsertUsers() {
+        insert("warmup", WARMUP_ROWS);
+
+        long started = System.nanoTime();
+        long created = insert("bulk", MEASURED_ROWS);
+        long elapsed = System.nanoTime() - started;
+
+        log.info("user bulk insert benchmark: rows={}, chunk={}, {} rows/s", MEASURED_ROWS,
+            CHUNK_SIZE, MEASURED_ROWS * 1_000_000_000L / elapsed);
+        assertEquals(MEASURED_ROWS, created);
+    }
+
+    private long insert(final String prefix, final int rows) {
+        long created = 0;
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            List<UserRequestDto> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = offset; i < Math.min(offset + CHUNK_SIZE, rows); i++) {
+                chunk.add(new UserRequestDto(prefix + i + "@example.com", "{noop}benchmark",
+                    "Bench", "User", LocalDate.of(1990, 1, 1), Sex.FEMALE));
+            }
+            created += userBulkInsertService.createUsers(chunk).created();
+        }
+        return created;
+    }
+}
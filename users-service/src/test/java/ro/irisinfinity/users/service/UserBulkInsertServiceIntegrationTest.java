@@ -0,0 +1,73 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UsersBulkCreateResultDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.repository.UserProfileChangesRepository;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class UserBulkInsertServiceIntegrationTest {
+
+    @Autowired
+    private UserBulkInsertService userBulkInsertService;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private UserProfileChangesRepository userProfileChangesRepository;
+
+    @Test
+    void createUsers_shouldInsertUsersWithRolesAndSkipDuplicates() {
+        usersService.createUser(user("existing@example.com"));
+        long pendingChanges = userProfileChangesRepository.count();
+
+        UsersBulkCreateResultDto result = userBulkInsertService.createUsers(List.of(
+            user("first@example.com"),
+            user("existing@example.com"),
+            user("second@example.com"),
+            user("first@example.com")
+        ));
+
+        assertEquals(2, result.created());
+        assertEquals(Set.of("existing@example.com", "first@example.com"),
+            result.duplicateEmails());
+
+        User created = usersRepository.findUserByEmail("second@example.com").orElseThrow();
+        assertEquals(Set.of(Role.USER), created.getRoles());
+        assertEquals(0L, created.getVersion());
+        assertEquals(3, usersRepository.count());
+        assertEquals(pendingChanges + 2, userProfileChangesRepository.count());
+    }
+
+    @Test
+    void findExistingEmails_shouldReturnOnlyRegisteredEmails() {
+        usersService.createUser(user("known@example.com"));
+
+        assertEquals(Set.of("known@example.com"), userBulkInsertService.findExistingEmails(
+            Set.of("known@example.com", "unknown@example.com")));
+    }
+
+    private static UserRequestDto user(final String email) {
+        return new UserRequestDto(email, "{noop}secret", "Bulk", "User",
+            LocalDate.of(1990, 1, 1), Sex.FEMALE);
+    }
+}
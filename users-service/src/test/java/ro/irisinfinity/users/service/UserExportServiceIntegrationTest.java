@@ -0,0 +1,91 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class UserExportServiceIntegrationTest {
+
+    @Autowired
+    private UserExportService userExportService;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void export_ndjson_shouldWriteOneUserPerLineWithAggregatedRoles() throws Exception {
+        UserResponseDto admin = usersService.createUser(request("admin@export.example.com",
+            "Ada"));
+        var adminUser = usersRepository.findUserByExternalId(admin.externalId()).orElseThrow();
+        adminUser.getRoles().add(Role.ADMIN);
+        usersService.createUser(request("plain@export.example.com", "Paul"));
+        usersRepository.flush();
+
+        String[] lines = export(UserExportService.Format.NDJSON).split("\n");
+
+        assertEquals(2, lines.length);
+        UserResponseDto first = objectMapper.readValue(lines[0], UserResponseDto.class);
+        assertEquals(admin.externalId(), first.externalId());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), first.roles());
+        assertEquals(LocalDate.of(1990, 1, 1), first.birthDate());
+        assertEquals("Paul",
+            objectMapper.readValue(lines[1], UserResponseDto.class).firstName());
+    }
+
+    @Test
+    void export_csv_shouldQuoteFieldsThatNeedIt() {
+        usersService.createUser(request("csv@export.example.com", "Quote, \"Q\""));
+        usersRepository.flush();
+
+        List<String> lines = List.of(export(UserExportService.Format.CSV).split("\r\n"));
+
+        assertEquals(2, lines.size());
+        assertEquals("externalId,email,firstName,lastName,birthDate,sex,createdAt,enabled,roles",
+            lines.get(0));
+        assertEquals(",csv@export.example.com,\"Quote, \"\"Q\"\"\",Export,1990-01-01,FEMALE,",
+            lines.get(1).substring(36, lines.get(1).indexOf("FEMALE,") + 7));
+        assertEquals(",true,USER", lines.get(1).substring(lines.get(1).lastIndexOf(",true,")));
+    }
+
+    @Test
+    void format_unknown_shouldBeRejected() {
+        assertThrows(ResponseStatusException.class, () -> UserExportService.Format.of("xml"));
+    }
+
+    private String export(final UserExportService.Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        userExportService.export(format, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static UserRequestDto request(final String email, final String firstName) {
+        return new UserRequestDto(email, "Password123!", firstName, "Export",
+            LocalDate.of(1990, 1, 1), Sex.FEMALE);
+    }
+}
@@ -0,0 +1,73 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+/**
+ * Measures insert throughput of {@code User} rows, including their role rows, persisted through
+ * JPA one transaction per chunk. Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class UserInsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 50_000;
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertUsers() {
+        insert("warmup", WARMUP_ROWS);
+
+        long started = System.nanoTime();
+        insert("insert", MEASURED_ROWS);
+        long elapsed = System.nanoTime() - started;
+
+        log.info("user insert benchmark: rows={}, chunk={}, {} rows/s", MEASURED_ROWS,
+            CHUNK_SIZE, MEASURED_ROWS * 1_000_000_000L / elapsed);
+        assertEquals(WARMUP_ROWS + MEASURED_ROWS, usersRepository.count());
+    }
+
+    private void insert(final String prefix, final int rows) {
+        for (int offset = 0; offset < rows; offset += CHUNK_SIZE) {
+            int chunkStart = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkStart; i < Math.min(chunkStart + CHUNK_SIZE, rows); i++) {
+                    User user = new User();
+                    user.setEmail(prefix + i + "@example.com");
+                    user.setPassword("{noop}benchmark");
+                    user.setFirstName("Bench");
+                    user.setLastName("User");
+                    user.setBirthDate(LocalDate.of(1990, 1, 1));
+                    user.setSex(Sex.FEMALE);
+                    entityManager.persist(user);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import ro.irisinfinity.platform.common.config.CommonConfig;
+import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.entity.User;
+import ro.irisinfinity.users.repository.UserCredentialsRow;
+
+/**
+ * Compares {@link UserMapper} with the {@code ObjectMapper.convertValue} round trip it replaced,
+ * reporting ns/op and bytes allocated per op on the calling thread.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+class UserMapperBenchmarkTest {
+
+    private static final int WARMUP_OPS = 200_000;
+    private static final int MEASURED_OPS = 1_000_000;
+
+    private final ObjectMapper objectMapper = new CommonConfig().objectMapper();
+    private final User user = user();
+    private final UserRequestDto userRequestDto = new UserRequestDto("bench@example.com",
+        "Password123!", "Bench", "User", LocalDate.of(1990, 1, 1), Sex.FEMALE);
+
+    private int sink;
+
+    @Test
+    void userToResponseDto() {
+        assertEquals(objectMapper.convertValue(user, UserResponseDto.class),
+            UserMapper.toResponseDto(user));
+        compare("User -> UserResponseDto",
+            () -> objectMapper.convertValue(user, UserResponseDto.class),
+            () -> UserMapper.toResponseDto(user));
+    }
+
+    @Test
+    void userToCredentialsDto() {
+        List<UserCredentialsRow> rows = user.getRoles().stream()
+            .map(role -> new UserCredentialsRow(user.getExternalId(), user.getEmail(),
+                user.getPassword(), user.getEnabled(), role))
+            .toList();
+        assertEquals(objectMapper.convertValue(user, CredentialsResponseDto.class),
+            UserMapper.toCredentialsDto(rows));
+        compare("User -> CredentialsResponseDto",
+            () -> objectMapper.convertValue(user, CredentialsResponseDto.class),
+            () -> UserMapper.toCredentialsDto(rows));
+    }
+
+    @Test
+    void requestDtoToUser() {
+        compare("UserRequestDto -> User",
+            () -> objectMapper.convertValue(userRequestDto, User.class),
+            () -> UserMapper.toEntity(userRequestDto));
+    }
+
+    private void compare(final String mapping, final Supplier<?> convertValue,
+        final Supplier<?> mapper) {
+        run(convertValue, WARMUP_OPS);
+        run(mapper, WARMUP_OPS);
+
+        Measurement before = run(convertValue, MEASURED_OPS);
+        Measurement after = run(mapper, MEASURED_OPS);
+        log.info("mapper benchmark: {}: convertValue {} ns/op {} B/op, mapper {} ns/op {} B/op",
+            mapping, before.nanosPerOp(), before.bytesPerOp(), after.nanosPerOp(),
+            after.bytesPerOp());
+    }
+
+    private Measurement run(final Supplier<?> mapping, final int ops) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ops; i++) {
+            sink += mapping.get().hashCode();
+        }
+        long elapsed = System.nanoTime() - started;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Measurement(elapsed / ops, allocated / ops);
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench@example.com");
+        user.setPassword("{noop}benchmark");
+        user.setFirstName("Bench");
+        user.setLastName("User");
+        user.setBirthDate(LocalDate.of(1990, 1, 1));
+        user.setSex(Sex.FEMALE);
+        user.setVersion(3L);
+        user.setRoles(Set.of(Role.USER, Role.ADMIN));
+        return user;
+    }
+
+    private record Measurement(long nanosPerOp, long bytesPerOp) {
+
+    }
+}
@@ -0,0 +1,117 @@
+package ro.irisinfinity.users.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.auth.CredentialsResponseDto;
+import ro.irisinfinity.platform.common.dto.auth.EmailLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.dto.users.ExternalIdsLookupRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
+import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
+import ro.irisinfinity.platform.common.enums.Role;
+import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.repository.UsersRepository;
+
+/**
+ * Locks in the number of JDBC statements of the read paths, so that roles can not silently go back
+ * to being loaded with one select per user.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+@ActiveProfiles("test")
+class UsersQueryCountIntegrationTest {
+
+    private static final int USERS = 5;
+
+    @Autowired
+    private UsersService usersService;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<UUID> externalIds;
+
+    @BeforeEach
+    void setup() {
+        externalIds = IntStream.range(0, USERS)
+            .mapToObj(i -> usersService.createUser(new UserRequestDto("count" + i + "@example.com",
+                "{noop}secret", "Count", "User", LocalDate.of(1990, 1, 1), Sex.MALE)).externalId())
+            .toList();
+        usersRepository.findUserByExternalId(externalIds.getFirst()).orElseThrow()
+            .getRoles().add(Role.ADMIN);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUsersPage_shouldUseIdCountAndFetchQueries() {
+        Page<UserResponseDto> page = usersService.getUsers(0, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(USERS, page.getTotalElements());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), page.getContent().getFirst().roles());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getUsersByCursor_shouldUseIdAndFetchQueries() {
+        CursorPageDto<UserResponseDto> page = usersService.getUsers("", USERS);
+
+        assertEquals(USERS, page.items().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getUsersByExternalIds_shouldUseOneQuery() {
+        List<UserResponseDto> users = usersService.getUsersByExternalIds(
+            new ExternalIdsLookupRequestDto(Set.copyOf(externalIds)));
+
+        assertEquals(USERS, users.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getUserByExternalId_shouldUseOneQuery() {
+        UserResponseDto user = usersService.getUserByExternalId(externalIds.getFirst());
+
+        assertEquals(Set.of(Role.USER, Role.ADMIN), user.roles());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findCredentials_shouldUseOneQuery() {
+        CredentialsResponseDto credentials = usersService.findCredentials(
+            new EmailLookupRequestDto("count0@example.com"));
+
+        assertEquals(externalIds.getFirst(), credentials.externalId());
+        assertEquals("{noop}secret", credentials.password());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), credentials.roles());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
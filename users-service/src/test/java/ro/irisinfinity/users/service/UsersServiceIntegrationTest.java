@@ -4,14 +4,22 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import ro.irisinfinity.platform.common.dto.page.CursorPageDto;
+import ro.irisinfinity.platform.common.dto.users.ExternalIdsLookupRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
 import ro.irisinfinity.platform.common.enums.Sex;
+import ro.irisinfinity.users.entity.User;
 import ro.irisinfinity.users.repository.UsersRepository;
 
 @SpringBootTest
@@ -72,4 +80,55 @@ class UsersServiceIntegrationTest {
 
         assertTrue(usersRepository.findUserByExternalId(externalId).isEmpty());
     }
+
+    @Test
+    void getUsersByExternalIds_shouldReturnOnlyExistingUsers() {
+        var first = usersService.createUser(new UserRequestDto(
+            "batch1@example.com", "Password123!", "Batch", "One",
+            LocalDate.of(1990, 1, 1), Sex.FEMALE
+        ));
+        var second = usersService.createUser(new UserRequestDto(
+            "batch2@example.com", "Password123!", "Batch", "Two",
+            LocalDate.of(1991, 1, 1), Sex.MALE
+        ));
+
+        List<UserResponseDto> users = usersService.getUsersByExternalIds(
+            new ExternalIdsLookupRequestDto(
+                Set.of(first.externalId(), second.externalId(), UUID.randomUUID())));
+
+        assertEquals(2, users.size());
+        assertEquals(Set.of(first.externalId(), second.externalId()),
+            Set.of(users.get(0).externalId(), users.get(1).externalId()));
+    }
+
+    @Test
+    void getUsers_withCursor_shouldPageByCreatedAtThenId() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 1, 12, 0);
+        List<UUID> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User user = new User();
+            user.setEmail("keyset" + i + "@example.com");
+            user.setPassword("Password123!");
+            user.setFirstName("Key");
+            user.setLastName("Set");
+            user.setBirthDate(LocalDate.of(1990, 1, 1));
+            user.setSex(Sex.MALE);
+            user.setCreatedAt(base.plusMinutes(i / 2));
+            expected.add(usersRepository.save(user).getExternalId());
+        }
+        usersRepository.flush();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            CursorPageDto<UserResponseDto> page = usersService.getUsers(cursor, 2);
+            page.items().forEach(user -> seen.add(user.externalId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(expected, seen);
+    }
 }
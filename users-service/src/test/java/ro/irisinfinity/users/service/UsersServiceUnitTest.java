@@ -2,25 +2,31 @@ package ro.irisinfinity.users.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ro.irisinfinity.platform.common.dto.users.ExternalIdsLookupRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserRequestDto;
 import ro.irisinfinity.platform.common.dto.users.UserResponseDto;
 import ro.irisinfinity.platform.common.enums.Role;
@@ -39,7 +45,10 @@ class UsersServiceUnitTest {
     private UsersRepository usersRepository;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private ParticipantProfileRelay participantProfileRelay;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private User user;
     private UserRequestDto userRequestDto;
@@ -99,10 +108,10 @@ class UsersServiceUnitTest {
     @DisplayName("getUsers should return a page of mapped UserResponseDto objects")
     void getUsers_shouldReturnMappedPageByExternalId() {
         Pageable pageable = PageRequest.of(0, 20);
-        Page<User> page = new PageImpl<>(List.of(user));
+        Page<Long> page = new PageImpl<>(List.of(user.getId()), pageable, 1);
 
-        when(usersRepository.findAll(pageable)).thenReturn(page);
-        when(objectMapper.convertValue(user, UserResponseDto.class)).thenReturn(userResponseDto);
+        when(usersRepository.findIds(pageable)).thenReturn(page);
+        when(usersRepository.findWithRolesByIdIn(List.of(user.getId()))).thenReturn(List.of(user));
 
         Page<UserResponseDto> result = usersService.getUsers(0, 20);
 
@@ -115,7 +124,6 @@ class UsersServiceUnitTest {
     void getUser_existingUser_ByExternalId_shouldReturnDto() {
         when(usersRepository.findUserByExternalId(user.getExternalId())).thenReturn(
             Optional.of(user));
-        when(objectMapper.convertValue(user, UserResponseDto.class)).thenReturn(userResponseDto);
 
         UserResponseDto result = usersService.getUserByExternalId(user.getExternalId());
         assertEquals(userResponseDto, result);
@@ -130,6 +138,22 @@ class UsersServiceUnitTest {
         assertThrows(UserNotFoundException.class, () -> usersService.getUserByExternalId(randomId));
     }
 
+    @Test
+    @DisplayName("getUsersByExternalIds should query the repository in bounded chunks")
+    void getUsersByExternalIds_shouldChunkLookups() {
+        Set<UUID> externalIds = Stream.generate(UUID::randomUUID)
+            .limit(UsersService.EXTERNAL_IDS_CHUNK_SIZE * 2L + 1)
+            .collect(Collectors.toSet());
+
+        when(usersRepository.findWithRolesByExternalIdIn(any())).thenReturn(List.of(user));
+
+        List<UserResponseDto> result = usersService.getUsersByExternalIds(
+            new ExternalIdsLookupRequestDto(externalIds));
+
+        assertEquals(3, result.size());
+        verify(usersRepository, times(3)).findWithRolesByExternalIdIn(any());
+    }
+
     @Test
     @DisplayName("createUser should throw UserAlreadyExistsException when email already exists")
     void createUser_emailExists_shouldThrow() {
@@ -142,9 +166,7 @@ class UsersServiceUnitTest {
     @DisplayName("createUser should successfully create and return UserResponseDto")
     void createUser_success_shouldReturnDto() {
         when(usersRepository.existsUserByEmail(userRequestDto.email())).thenReturn(false);
-        when(objectMapper.convertValue(userRequestDto, User.class)).thenReturn(user);
-        when(usersRepository.save(user)).thenReturn(user);
-        when(objectMapper.convertValue(user, UserResponseDto.class)).thenReturn(userResponseDto);
+        when(usersRepository.save(any(User.class))).thenReturn(user);
 
         UserResponseDto result = usersService.createUser(userRequestDto);
         assertEquals(userResponseDto, result);
@@ -185,4 +207,17 @@ class UsersServiceUnitTest {
 
         assertThrows(UserNotFoundException.class, () -> usersService.deleteUser(randomId));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("deleteUser should record and publish a profile change for the deleted user")
+    void deleteUser_existing_shouldPublishUserChangedEvent() {
+        when(usersRepository.findUserByExternalId(user.getExternalId()))
+            .thenReturn(Optional.of(user));
+
+        usersService.deleteUser(user.getExternalId());
+
+        verify(usersRepository).deleteById(user.getId());
+        verify(participantProfileRelay).record(user.getExternalId());
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user.getExternalId()));
+    }
+}